@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -58,6 +59,16 @@ public class AdminController {
 		return ResponseEntity.ok(response);
 	}
 
+	@PostMapping("/wards/{wardId}/member-schedules/rebuild")
+	@AdminOnly
+	public ResponseEntity<Void> rebuildMemberSchedules(
+		@Auth Member member,
+		@PathVariable Long wardId
+	) {
+		adminService.rebuildMemberSchedules(wardId);
+		return ResponseEntity.accepted().build();
+	}
+
 	@PatchMapping("/wards/{wardId}/capacity")
 	@AdminOnly
 	public ResponseEntity<Void> updateWardCapacity(
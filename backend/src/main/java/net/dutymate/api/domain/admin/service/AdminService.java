@@ -25,6 +25,7 @@ import net.dutymate.api.domain.ward.repository.WardRepository;
 import net.dutymate.api.domain.wardmember.WardMember;
 import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
 import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleProjectionService;
 import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
 
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,7 @@ public class AdminService {
 	private final WardScheduleService wardScheduleService;
 	private final MemberRepository memberRepository;
 	private final GroupMemberRepository groupMemberRepository;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
 
 	public WardListResponseDto getAllWards(Pageable pageable) {
 		Page<Ward> wardPage = wardRepository.findAll(pageable);
@@ -57,6 +59,13 @@ public class AdminService {
 		return wardScheduleService.getWardSchedule(headNurse.getMember(), yearMonth, history);
 	}
 
+	public void rebuildMemberSchedules(Long wardId) {
+		Ward ward = wardRepository.findById(wardId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "병동을 찾을 수 없습니다."));
+
+		memberScheduleProjectionService.rebuild(ward.getWardId());
+	}
+
 	@Transactional
 	public void updateWardCapacity(Long wardId, UpdateWardCapacityRequestDto requestDto) {
 		Ward ward = wardRepository.findById(wardId)
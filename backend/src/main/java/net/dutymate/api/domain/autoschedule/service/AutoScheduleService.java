@@ -27,7 +27,10 @@ import net.dutymate.api.domain.wardmember.WardMember;
 import net.dutymate.api.domain.wardmember.WorkIntensity;
 import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.DutyChangeEventDto;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleProjectionService;
+import net.dutymate.api.domain.wardschedules.service.WardSchedulePushService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +43,8 @@ public class AutoScheduleService {
 	private final RequestRepository requestRepository;
 	private final NurseScheduler nurseScheduler;
 	private final FixScheduleGenerator fixScheduleGenerator;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
+	private final WardSchedulePushService wardSchedulePushService;
 
 	@Transactional
 	public ResponseEntity<?> generateAutoSchedule(YearMonth yearMonth, Member member, boolean force,
@@ -222,6 +227,13 @@ public class AutoScheduleService {
 
 		wardScheduleRepository.save(updateWardSchedule);
 
+		// 구독 중인 병동 간호사들에게 근무표 전체 변경 알림
+		wardSchedulePushService.publish(DutyChangeEventDto.ofReload(wardId, yearMonth.year(), yearMonth.month(),
+			updateWardSchedule.getVersion()));
+
+		// 병동 듀티 -> 개인 듀티 : 연동 요청
+		memberScheduleProjectionService.requestProjection(wardId, yearMonth);
+
 		return ResponseEntity.ok(responseDto);
 	}
 
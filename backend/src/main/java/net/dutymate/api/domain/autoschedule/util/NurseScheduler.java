@@ -1184,6 +1184,7 @@ public class NurseScheduler {
 
 		return WardSchedule.builder()
 			.id(wardSchedule.getId())
+			.version(wardSchedule.getVersion())
 			.wardId(wardSchedule.getWardId())
 			.year(wardSchedule.getYear())
 			.month(wardSchedule.getMonth())
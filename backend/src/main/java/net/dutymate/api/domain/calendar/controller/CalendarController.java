@@ -1,7 +1,6 @@
 package net.dutymate.api.domain.calendar.controller;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +12,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import net.dutymate.api.domain.calendar.dto.CalendarRequestDto;
-import net.dutymate.api.domain.calendar.dto.CalendarResponseDto;
 import net.dutymate.api.domain.calendar.service.CalendarService;
+import net.dutymate.api.domain.common.utils.ETagUtil;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.global.auth.annotation.Auth;
 
@@ -31,15 +31,17 @@ public class CalendarController {
 	private final CalendarService calendarService;
 
 	@GetMapping
-	public ResponseEntity<?> getCalendarsByDate(@Auth Member member, @RequestParam LocalDate date) {
-		List<CalendarResponseDto> calendarResponseDtos = calendarService.getCalendarsByDate(member, date);
-		return ResponseEntity.ok(calendarResponseDtos);
+	public ResponseEntity<?> getCalendarsByDate(@Auth Member member, @RequestParam LocalDate date,
+		WebRequest webRequest) {
+		return ETagUtil.conditionalGet(webRequest, calendarService.getCalendarETag(member, date.toString()),
+			() -> calendarService.getCalendarsByDate(member, date));
 	}
 
 	@GetMapping("/{calendarId}")
-	public ResponseEntity<?> getCalendarById(@Auth Member member, @PathVariable Long calendarId) {
-		CalendarResponseDto calendarResponseDto = calendarService.getCalendar(member, calendarId);
-		return ResponseEntity.ok(calendarResponseDto);
+	public ResponseEntity<?> getCalendarById(@Auth Member member, @PathVariable Long calendarId,
+		WebRequest webRequest) {
+		return ETagUtil.conditionalGet(webRequest, calendarService.getCalendarETag(member, "id" + calendarId),
+			() -> calendarService.getCalendar(member, calendarId));
 	}
 
 	@PostMapping
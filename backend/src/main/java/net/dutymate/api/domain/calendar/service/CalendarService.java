@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import net.dutymate.api.domain.calendar.dto.CalendarRequestDto;
 import net.dutymate.api.domain.calendar.dto.CalendarResponseDto;
 import net.dutymate.api.domain.calendar.repository.CalendarRepository;
 import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.wardschedules.util.ScheduleVersionStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +25,17 @@ import lombok.RequiredArgsConstructor;
 public class CalendarService {
 
 	private final CalendarRepository calendarRepository;
+	private final ScheduleVersionStore scheduleVersionStore;
+
+	// 캘린더 조회 ETag (회원의 일정, 개인 근무표가 바뀌지 않았으면 같은 값, 버전을 조회할 수 없으면 null)
+	public String getCalendarETag(Member member, String resource) {
+		try {
+			String version = scheduleVersionStore.getMemberVersion(member.getMemberId());
+			return version == null ? null : "calendar-" + member.getMemberId() + "-" + resource + "-" + version;
+		} catch (DataAccessException e) {
+			return null;
+		}
+	}
 
 	//일별 캘린더 조회
 	@Transactional
@@ -59,6 +72,7 @@ public class CalendarService {
 		}
 
 		calendarRepository.save(calendarRequestDto.toCalendar(member));
+		scheduleVersionStore.increaseMemberVersion(member.getMemberId());
 	}
 
 	//캘린더 수정
@@ -75,6 +89,7 @@ public class CalendarService {
 		calendar.updateCalendar(calendarRequestDto);
 
 		calendarRepository.save(calendar);
+		scheduleVersionStore.increaseMemberVersion(member.getMemberId());
 	}
 
 	//캘린더 삭제
@@ -89,5 +104,6 @@ public class CalendarService {
 		}
 
 		calendarRepository.deleteById(calendarId);
+		scheduleVersionStore.increaseMemberVersion(member.getMemberId());
 	}
 }
@@ -0,0 +1,17 @@
+package net.dutymate.api.domain.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class PresignedUploadRequestDto {
+
+	@NotBlank(message = "파일 형식은 필수입니다.")
+	private String contentType;
+
+	@NotNull(message = "파일 크기는 필수입니다.")
+	@Positive(message = "파일 크기가 올바르지 않습니다.")
+	private Long contentLength;
+}
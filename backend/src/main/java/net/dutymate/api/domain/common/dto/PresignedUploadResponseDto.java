@@ -0,0 +1,30 @@
+package net.dutymate.api.domain.common.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Builder;
+import lombok.Data;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+@Data
+@Builder
+public class PresignedUploadResponseDto {
+
+	private String uploadUrl; // PUT 요청 주소
+	private Map<String, String> headers; // PUT 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+	private String key; // 업로드 완료 요청 시 전달
+	private Instant expiresAt;
+
+	public static PresignedUploadResponseDto of(PresignedPutObjectRequest presignedRequest, String key) {
+		return PresignedUploadResponseDto.builder()
+			.uploadUrl(presignedRequest.url().toString())
+			.headers(presignedRequest.signedHeaders().entrySet().stream()
+				.filter(header -> !header.getKey().equalsIgnoreCase("host"))
+				.collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue()))))
+			.key(key)
+			.expiresAt(presignedRequest.expiration())
+			.build();
+	}
+}
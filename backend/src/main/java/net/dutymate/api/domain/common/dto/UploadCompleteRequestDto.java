@@ -0,0 +1,11 @@
+package net.dutymate.api.domain.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class UploadCompleteRequestDto {
+
+	@NotBlank(message = "업로드 키는 필수입니다.")
+	private String key;
+}
@@ -0,0 +1,150 @@
+package net.dutymate.api.domain.common.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import net.dutymate.api.domain.common.utils.ImageFormat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * 업로드된 이미지의 썸네일(긴 변 THUMBNAIL_SIZE px, JPEG) 생성
+ * 원본을 S3에서 스트리밍으로 읽고, 큰 이미지는 서브샘플링으로 디코딩하여 힙 사용량을 제한한다.
+ * 힙이 작으므로 전용 스레드 풀에서 동시에 최대 2개만 처리하고, 대기열이 가득 차면 생성을 건너뛴다 (목록은 원본으로 대체).
+ * 썸네일 위치 : {디렉토리}/thumb/{원본 파일명}.jpg
+ * 생성이 끝나면 ThumbnailCreatedEvent를 발행한다 (사용하는 쪽에서 썸네일 URL을 기록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageThumbnailService {
+
+	private static final int THUMBNAIL_SIZE = 320;
+	private static final String THUMBNAIL_DIR = "thumb";
+	private static final String THUMBNAIL_EXTENSION = "jpg";
+
+	private final S3Client s3Client;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+		new ArrayBlockingQueue<>(100), new ThreadPoolExecutor.DiscardPolicy());
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	public static String toThumbnailKey(String key) {
+		int dirIdx = key.lastIndexOf('/');
+		int extensionIdx = key.lastIndexOf('.');
+		String baseName = key.substring(dirIdx + 1, extensionIdx > dirIdx ? extensionIdx : key.length());
+		return key.substring(0, dirIdx + 1) + THUMBNAIL_DIR + "/" + baseName + "." + THUMBNAIL_EXTENSION;
+	}
+
+	// 요청 스레드를 막지 않고 백그라운드에서 생성
+	public void createThumbnailAsync(String key, ImageFormat imageFormat) {
+		if (imageFormat.isResizable()) {
+			executor.execute(() -> createThumbnail(key));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private void createThumbnail(String key) {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucket).key(key).build();
+		try (ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(getObjectRequest);
+			ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			BufferedImage image = readSubsampled(imageInputStream);
+			if (image == null) {
+				log.warn("썸네일 생성 실패 (읽을 수 없는 이미지) key={}", key);
+				return;
+			}
+
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			ImageIO.write(resize(image), THUMBNAIL_EXTENSION, outputStream);
+			s3Client.putObject(PutObjectRequest.builder()
+					.bucket(bucket)
+					.key(toThumbnailKey(key))
+					.contentType(ImageFormat.JPEG.getContentType())
+					.build(),
+				RequestBody.fromBytes(outputStream.toByteArray()));
+		} catch (IOException | SdkException | RuntimeException e) {
+			log.warn("썸네일 생성 실패 key={}", key, e);
+			return;
+		}
+
+		try {
+			eventPublisher.publishEvent(new ThumbnailCreatedEvent(key, toThumbnailKey(key)));
+		} catch (RuntimeException e) {
+			log.warn("썸네일 생성 반영 실패 key={}", key, e);
+		}
+	}
+
+	// 썸네일보다 2배 이상 큰 이미지는 픽셀을 건너뛰며 디코딩 (첫 프레임)
+	private BufferedImage readSubsampled(ImageInputStream imageInputStream) throws IOException {
+		Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+		if (!readers.hasNext()) {
+			return null;
+		}
+
+		ImageReader reader = readers.next();
+		try {
+			reader.setInput(imageInputStream, true, true);
+			int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+			int subsampling = Math.max(1, longSide / (THUMBNAIL_SIZE * 2));
+			ImageReadParam param = reader.getDefaultReadParam();
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+			return reader.read(0, param);
+		} finally {
+			reader.dispose();
+		}
+	}
+
+	// 긴 변 기준으로 축소, 투명 영역은 흰색 (JPEG)
+	private BufferedImage resize(BufferedImage image) {
+		double scale = Math.min(1.0, (double)THUMBNAIL_SIZE / Math.max(image.getWidth(), image.getHeight()));
+		int width = Math.max(1, (int)Math.round(image.getWidth() * scale));
+		int height = Math.max(1, (int)Math.round(image.getHeight() * scale));
+
+		BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = thumbnail.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return thumbnail;
+	}
+
+	public record ThumbnailCreatedEvent(String key, String thumbnailKey) {
+	}
+}
@@ -0,0 +1,150 @@
+package net.dutymate.api.domain.common.service;
+
+import static net.dutymate.api.domain.common.utils.FileNameUtils.*;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.PresignedUploadResponseDto;
+import net.dutymate.api.domain.common.utils.ImageFormat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * 클라이언트가 S3에 직접 올리는 이미지 업로드 (서버는 파일 내용을 중계하지 않음)
+ * 1. 발급 : 형식과 크기를 서명에 포함한 PUT URL 발급, 임시 위치(upload/)에 업로드하도록 함
+ * 2. 완료 : 발급한 회원인지, 실제 객체의 크기/형식/파일 앞부분이 맞는지 확인한 뒤 최종 위치로 복사
+ *    발급 기록은 복사가 끝났거나 검증에 확실히 실패한 경우에만 지운다 (업로드 전이거나 S3 오류면 다시 완료 요청 가능).
+ * 완료되지 않은 임시 객체는 버킷 수명 주기 규칙(upload/ 접두사)으로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresignedUploadService {
+
+	private static final long MAX_UPLOAD_SIZE = 30L * 1024 * 1024; // spring.servlet.multipart.maxFileSize와 동일
+	private static final Duration UPLOAD_URL_DURATION = Duration.ofMinutes(10);
+	private static final Duration PENDING_TTL = Duration.ofMinutes(30);
+	private static final String TEMP_DIR = "upload/";
+	private static final String PENDING_KEY_PREFIX = "upload:pending:";
+
+	private final S3Client s3Client;
+	private final S3Presigner s3Presigner;
+	private final StringRedisTemplate redisTemplate;
+	private final S3Service s3Service;
+	private final ImageThumbnailService imageThumbnailService;
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	public PresignedUploadResponseDto createUpload(String dirName, Long memberId,
+		PresignedUploadRequestDto presignedUploadRequestDto) {
+		ImageFormat imageFormat = ImageFormat.fromContentType(presignedUploadRequestDto.getContentType());
+		if (imageFormat == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
+		}
+		long contentLength = presignedUploadRequestDto.getContentLength();
+		if (contentLength > MAX_UPLOAD_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지는 최대 30MB까지 업로드할 수 있습니다.");
+		}
+
+		String key = TEMP_DIR + createFileName(dirName, imageFormat.getExtension());
+		PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+			.signatureDuration(UPLOAD_URL_DURATION)
+			.putObjectRequest(PutObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.contentType(imageFormat.getContentType())
+				.contentLength(contentLength)
+				.build())
+			.build();
+
+		redisTemplate.opsForValue().set(PENDING_KEY_PREFIX + key, memberId + ":" + contentLength, PENDING_TTL);
+		return PresignedUploadResponseDto.of(s3Presigner.presignPutObject(presignRequest), key);
+	}
+
+	// 업로드된 객체를 확인하고 최종 위치의 URL 반환
+	public String completeUpload(String dirName, Long memberId, String key) {
+		if (!key.startsWith(TEMP_DIR + dirName + "/")) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 업로드 키입니다.");
+		}
+
+		String pendingKey = PENDING_KEY_PREFIX + key;
+		String pending = redisTemplate.opsForValue().get(pendingKey);
+		if (pending == null || !pending.startsWith(memberId + ":")) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "만료되었거나 발급되지 않은 업로드입니다.");
+		}
+		long contentLength = Long.parseLong(pending.substring(pending.indexOf(':') + 1));
+
+		try {
+			ImageFormat imageFormat = verifyObject(key, contentLength);
+			if (imageFormat == null) {
+				redisTemplate.delete(pendingKey);
+				deleteTempObject(key);
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
+			}
+
+			String fileKey = key.substring(TEMP_DIR.length());
+			s3Client.copyObject(CopyObjectRequest.builder()
+				.sourceBucket(bucket)
+				.sourceKey(key)
+				.destinationBucket(bucket)
+				.destinationKey(fileKey)
+				.build());
+			redisTemplate.delete(pendingKey);
+			deleteTempObject(key);
+
+			imageThumbnailService.createThumbnailAsync(fileKey, imageFormat);
+			return s3Service.getFileUrl(fileKey);
+		} catch (NoSuchKeyException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 파일이 없습니다.");
+		} catch (SdkException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 업로드 중 오류가 발생했습니다.");
+		}
+	}
+
+	// 발급 시 정한 크기, 형식과 실제 파일 앞부분이 모두 일치하면 형식 반환
+	private ImageFormat verifyObject(String key, long contentLength) {
+		HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+		if (head.contentLength() == null || head.contentLength() != contentLength) {
+			return null;
+		}
+
+		byte[] header = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.range("bytes=0-" + (ImageFormat.HEADER_LENGTH - 1))
+			.build()).asByteArray();
+		ImageFormat imageFormat = ImageFormat.detect(header);
+		if (imageFormat == null || !imageFormat.getContentType().equals(head.contentType())) {
+			return null;
+		}
+		return imageFormat;
+	}
+
+	private void deleteTempObject(String key) {
+		try {
+			s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+		} catch (SdkException e) {
+			log.warn("임시 업로드 파일 삭제 실패 key={}", key, e);
+		}
+	}
+}
@@ -2,16 +2,23 @@ package net.dutymate.api.domain.common.service;
 
 import static net.dutymate.api.domain.common.utils.FileNameUtils.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import net.dutymate.api.domain.common.utils.ImageFormat;
+
 import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Service
@@ -19,47 +26,55 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 public class S3Service {
 
 	private final S3Client s3Client;
+	private final ImageThumbnailService imageThumbnailService;
 
 	@Value("${cloud.aws.region.static}")
 	private String region;
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
-
+	// 로컬 S3 호환 저장소 주소 (비어 있으면 AWS)
+	@Value("${cloud.aws.s3.endpoint:}")
+	private String endpoint;
+
+	/**
+	 * 이미지 업로드
+	 * 파일 전체를 메모리에 올리지 않고 임시 파일에서 S3로 스트리밍하며, 형식은 파일 앞부분으로 판별한다.
+	 * 썸네일은 백그라운드에서 생성한다 (ImageThumbnailService).
+	 */
 	public String uploadImage(String dirName, MultipartFile multipartFile) {
 		if (multipartFile == null || multipartFile.isEmpty()) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일이 비어 있습니다.");
 		}
 
-		String originalFilename = multipartFile.getOriginalFilename();
-		String contentType = multipartFile.getContentType();
-
-		if (!isImageFile(contentType, originalFilename)) {
+		ImageFormat imageFormat = detectImageFormat(multipartFile);
+		if (imageFormat == null) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
 		}
 
-		try {
-			byte[] imageBytes = multipartFile.getBytes();
-			String fileExtension = getFileExtension(originalFilename);
-			String fileName = createFileName(dirName, fileExtension);
-
+		String fileName = createFileName(dirName, imageFormat.getExtension());
+		try (InputStream inputStream = multipartFile.getInputStream()) {
 			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
 				.bucket(bucket)
 				.key(fileName)
-				.contentType("image/" + fileExtension)
+				.contentType(imageFormat.getContentType())
+				.contentLength(multipartFile.getSize())
 				.build();
 
-			s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
-
-			return new StringBuilder().append("https://")
-				.append(bucket)
-				.append(".s3.")
-				.append(region)
-				.append(".amazonaws.com/")
-				.append(fileName)
-				.toString();
-		} catch (Exception e) {
+			s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, multipartFile.getSize()));
+		} catch (IOException | SdkException e) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 업로드 중 오류가 발생했습니다.");
 		}
+
+		imageThumbnailService.createThumbnailAsync(fileName, imageFormat);
+		return getFileUrl(fileName);
+	}
+
+	private ImageFormat detectImageFormat(MultipartFile multipartFile) {
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			return ImageFormat.detect(inputStream.readNBytes(ImageFormat.HEADER_LENGTH));
+		} catch (IOException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일입니다.");
+		}
 	}
 
 	public void deleteFile(String dirName, String fileName) {
@@ -74,30 +89,57 @@ public class S3Service {
 				.key(key)
 				.build();
 			s3Client.deleteObject(deleteObjectRequest);
+			s3Client.deleteObject(DeleteObjectRequest.builder()
+				.bucket(bucket)
+				.key(ImageThumbnailService.toThumbnailKey(key))
+				.build());
 		} catch (Exception e) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 이미지 삭제 중 오류 발생");
 		}
 	}
 
 	public String extractFileNameFromUrl(String fileUrl, String dirName) {
-		String baseUrl = new StringBuilder().append("https://")
-			.append(bucket)
-			.append(".s3.")
-			.append(region)
-			.append(".amazonaws.com/")
-			.append(dirName)
-			.append("/")
-			.toString();
-		return fileUrl.replace(baseUrl, "");
+		return fileUrl.replace(getFileUrl(dirName + "/"), "");
+	}
+
+	// 이 버킷에 업로드된 이미지의 썸네일 URL (썸네일이 아직 없거나 다른 곳의 이미지면 null)
+	public String findThumbnailUrl(String fileUrl) {
+		String baseUrl = getFileUrl("");
+		if (fileUrl == null || !fileUrl.startsWith(baseUrl)) {
+			return null;
+		}
+
+		String thumbnailKey = ImageThumbnailService.toThumbnailKey(fileUrl.substring(baseUrl.length()));
+		try {
+			s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(thumbnailKey).build());
+		} catch (SdkException e) {
+			return null;
+		}
+		return getFileUrl(thumbnailKey);
 	}
 
 	// 기본 프로필 이미지 URL 생성
 	public String addBasicProfileImgUrl() {
+		return getFileUrl("profile/default_profile.png");
+	}
+
+	public String getFileUrl(String key) {
+		if (!endpoint.isBlank()) {
+			// 로컬 저장소는 경로 방식 (endpoint/bucket/key)
+			return new StringBuilder().append(endpoint)
+				.append("/")
+				.append(bucket)
+				.append("/")
+				.append(key)
+				.toString();
+		}
+
 		return new StringBuilder().append("https://")
 			.append(bucket)
 			.append(".s3.")
 			.append(region)
-			.append(".amazonaws.com/profile/default_profile.png")
+			.append(".amazonaws.com/")
+			.append(key)
 			.toString();
 	}
 }
@@ -0,0 +1,32 @@
+package net.dutymate.api.domain.common.utils;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 조회 (If-None-Match / 304) 응답 유틸
+ * ETag가 같으면 응답 본문을 만들지 않고 304를 반환한다.
+ */
+public class ETagUtil {
+
+	/**
+	 * @param eTag 상태 버전으로 만든 ETag (null이면 조건부 조회 없이 항상 본문 응답)
+	 * @param body 응답 본문 생성 함수 (ETag가 일치하지 않을 때만 호출)
+	 */
+	public static <T> ResponseEntity<T> conditionalGet(WebRequest webRequest, String eTag, Supplier<T> body) {
+		if (eTag == null) {
+			return ResponseEntity.ok(body.get());
+		}
+
+		// 클라이언트가 저장한 응답을 매번 검증한 뒤 사용하도록 설정
+		CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+		if (webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+	}
+}
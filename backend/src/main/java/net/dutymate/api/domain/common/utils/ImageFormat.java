@@ -0,0 +1,84 @@
+package net.dutymate.api.domain.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 업로드 가능한 이미지 형식
+ * 파일명이나 요청의 Content-Type 대신 파일 앞부분(매직 넘버)으로 판별한다.
+ */
+public enum ImageFormat {
+
+	JPEG("jpg", "image/jpeg", true),
+	PNG("png", "image/png", true),
+	GIF("gif", "image/gif", true),
+	BMP("bmp", "image/bmp", true),
+	WEBP("webp", "image/webp", false); // ImageIO 기본 리더 없음 (썸네일 생성 불가)
+
+	// 판별에 필요한 앞부분 길이 (WEBP : RIFF....WEBP)
+	public static final int HEADER_LENGTH = 12;
+
+	private static final byte[] JPEG_MAGIC = {(byte)0xFF, (byte)0xD8, (byte)0xFF};
+	private static final byte[] PNG_MAGIC = {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final byte[] GIF_MAGIC = "GIF8".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BMP_MAGIC = "BM".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] RIFF_MAGIC = "RIFF".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] WEBP_MAGIC = "WEBP".getBytes(StandardCharsets.US_ASCII);
+
+	private final String extension;
+	private final String contentType;
+	private final boolean resizable;
+
+	ImageFormat(String extension, String contentType, boolean resizable) {
+		this.extension = extension;
+		this.contentType = contentType;
+		this.resizable = resizable;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public boolean isResizable() {
+		return resizable;
+	}
+
+	// 업로드 가능한 형식이 아니면 null
+	public static ImageFormat fromContentType(String contentType) {
+		for (ImageFormat imageFormat : values()) {
+			if (imageFormat.contentType.equalsIgnoreCase(contentType)) {
+				return imageFormat;
+			}
+		}
+		return null;
+	}
+
+	// 이미지가 아니면 null
+	public static ImageFormat detect(byte[] header) {
+		if (startsWith(header, 0, JPEG_MAGIC)) {
+			return JPEG;
+		}
+		if (startsWith(header, 0, PNG_MAGIC)) {
+			return PNG;
+		}
+		if (startsWith(header, 0, GIF_MAGIC)) {
+			return GIF;
+		}
+		if (startsWith(header, 0, BMP_MAGIC)) {
+			return BMP;
+		}
+		if (startsWith(header, 0, RIFF_MAGIC) && startsWith(header, 8, WEBP_MAGIC)) {
+			return WEBP;
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] header, int offset, byte[] magic) {
+		return header.length >= offset + magic.length
+			&& Arrays.equals(header, offset, offset + magic.length, magic, 0, magic.length);
+	}
+}
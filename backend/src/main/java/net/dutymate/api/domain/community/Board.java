@@ -15,10 +15,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,6 +29,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_board_created_at", columnList = "createdAt, boardId"),
+	@Index(name = "idx_board_category_created_at", columnList = "category, createdAt, boardId"),
+	@Index(name = "idx_board_image_url", columnList = "boardImageUrl")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -55,12 +62,25 @@ public class Board {
 
 	private String boardImageUrl;
 
+	// 목록용 썸네일 (S3에 생성된 것이 확인된 경우에만, 없으면 null)
+	private String boardThumbnailUrl;
+
+	// 카운터는 저장 시에만 쓰고, 이후에는 원자적 증감 쿼리로만 변경한다.
+	// (게시글 수정 시 엔티티의 이전 값으로 덮어쓰지 않도록 updatable = false)
+	@Column(updatable = false)
 	private Integer viewCnt;
 
+	@Column(updatable = false)
 	private Integer likesCntLow;
+	@Column(updatable = false)
 	private Integer likesCntMid;
+	@Column(updatable = false)
 	private Integer likesCntHigh;
 
+	// 댓글 수 (목록 조회용, CommentService에서 원자적으로 증감)
+	@Column(updatable = false)
+	private Integer commentCnt;
+
 	@OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<Comment> commentList;
 
@@ -72,27 +92,14 @@ public class Board {
 		this.createdAt = new Timestamp(System.currentTimeMillis());
 	}
 
-	public void increaseViewCnt() {
-		this.viewCnt++;
-	}
-
-	public void increaseLikeCnt(Integer grade) {
-		if (grade < 4) { // 1, 2, 3년차
-			this.likesCntLow++;
-		} else if (grade < 8) { // 4, 5, 6, 7년차
-			this.likesCntMid++;
-		} else { // 8년차 이상
-			this.likesCntHigh++;
-		}
-	}
-
-	public void decreaseLikeCnt(Integer grade) {
+	// 연차 구간별 좋아요 수 변화량 {1~3년차, 4~7년차, 8년차 이상} (BoardRepository.updateLikesCnt 인자)
+	public static int[] likesCntDelta(Integer grade, int delta) {
 		if (grade < 4) { // 1, 2, 3년차
-			this.likesCntLow--;
+			return new int[] {delta, 0, 0};
 		} else if (grade < 8) { // 4, 5, 6, 7년차
-			this.likesCntMid--;
+			return new int[] {0, delta, 0};
 		} else { // 8년차 이상
-			this.likesCntHigh--;
+			return new int[] {0, 0, delta};
 		}
 	}
 
@@ -106,4 +113,8 @@ public class Board {
 		this.category = boardUpdateRequestDto.getCategory();
 		this.boardImageUrl = boardUpdateRequestDto.getBoardImgUrl();
 	}
+
+	public void updateBoardThumbnailUrl(String boardThumbnailUrl) {
+		this.boardThumbnailUrl = boardThumbnailUrl;
+	}
 }
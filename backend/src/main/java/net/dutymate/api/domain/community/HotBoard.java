@@ -7,19 +7,35 @@ import org.hibernate.annotations.OnDeleteAction;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 인기글 목록 읽기 모델
+ * 목록 조회 시 게시글, 작성자를 조인하지 않도록 목록 행에 필요한 값을 복사해 둔다.
+ * 승격 시 게시글에서 복사하고(HotBoardRepository.insertIfAbsent), 수정/좋아요/댓글/조회수 반영 시 함께 갱신하며,
+ * 작성자 정보 변경 등 누락분은 주기적으로 게시글과 다시 맞춘다(HotBoardRepository.syncAll).
+ * 아직 맞추지 않은 행(board_created_at이 null)은 목록 변환 시 게시글에서 읽는다(BoardListResponseDto.of).
+ */
 @Entity
+@Table(
+	indexes = @Index(name = "idx_hot_board_upload_at", columnList = "uploadAtHotBoard, board_id"),
+	uniqueConstraints = @UniqueConstraint(name = "uk_hot_board_board_id", columnNames = "board_id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,7 +46,7 @@ public class HotBoard {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long hotBoardId;
 
-	@OneToOne(optional = false)
+	@OneToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "board_id", nullable = false)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	private Board board;
@@ -38,6 +54,31 @@ public class HotBoard {
 	@Column(nullable = false, updatable = false)
 	private Timestamp uploadAtHotBoard;
 
+	private String nickname;
+
+	private String profileImg;
+
+	@Column(length = 100)
+	private String title;
+
+	@Column(length = 2000)
+	private String content;
+
+	private String boardImageUrl;
+
+	private String boardThumbnailUrl;
+
+	@Enumerated(EnumType.STRING)
+	private Category category;
+
+	private Timestamp boardCreatedAt;
+
+	private Integer viewCnt;
+
+	private Integer likeCnt;
+
+	private Integer commentCnt;
+
 	@PrePersist
 	protected void prePersist() {
 		this.uploadAtHotBoard = new Timestamp(System.currentTimeMillis());
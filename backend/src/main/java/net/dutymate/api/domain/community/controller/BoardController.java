@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.UploadCompleteRequestDto;
 import net.dutymate.api.domain.community.Category;
 import net.dutymate.api.domain.community.dto.BoardCreateRequestDto;
 import net.dutymate.api.domain.community.dto.BoardUpdateRequestDto;
@@ -42,6 +44,21 @@ public class BoardController {
 		return ResponseEntity.ok(boardService.getAllBoard(category));
 	}
 
+	@GetMapping("/feed")
+	public ResponseEntity<?> getBoardFeed(@RequestParam Category category,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(boardService.getBoardFeed(category, cursor, size));
+	}
+
+	@GetMapping("/search")
+	public ResponseEntity<?> searchBoards(@RequestParam String query,
+		@RequestParam(required = false) Category category,
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(boardService.searchBoards(query, category, page, size));
+	}
+
 	@GetMapping("/{boardId}")
 	public ResponseEntity<?> getBoard(@PathVariable Long boardId, @Auth Member member) {
 		return ResponseEntity.ok(boardService.getBoard(boardId, member));
@@ -58,6 +75,18 @@ public class BoardController {
 		return ResponseEntity.ok(boardService.uploadBoardImage(multipartFile));
 	}
 
+	@PostMapping("/image/presigned")
+	public ResponseEntity<?> createBoardImageUpload(@Auth Member member,
+		@Valid @RequestBody PresignedUploadRequestDto presignedUploadRequestDto) {
+		return ResponseEntity.ok(boardService.createBoardImageUpload(member, presignedUploadRequestDto));
+	}
+
+	@PostMapping("/image/complete")
+	public ResponseEntity<?> completeBoardImageUpload(@Auth Member member,
+		@Valid @RequestBody UploadCompleteRequestDto uploadCompleteRequestDto) {
+		return ResponseEntity.ok(boardService.completeBoardImageUpload(member, uploadCompleteRequestDto.getKey()));
+	}
+
 	@PostMapping("/{boardId}/like")
 	public ResponseEntity<?> boardLike(@PathVariable Long boardId, @Auth Member member) {
 		boardService.boardLike(boardId, member);
@@ -2,11 +2,13 @@ package net.dutymate.api.domain.community.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import net.dutymate.api.domain.community.dto.BoardDetailResponseDto;
@@ -25,6 +27,16 @@ public class CommentController {
 
 	private final CommentService commentService;
 
+	@GetMapping("/{boardId}/comment")
+	public ResponseEntity<?> getComments(
+		@PathVariable Long boardId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Integer size,
+		@Auth Member member
+	) {
+		return ResponseEntity.ok(commentService.getComments(boardId, cursor, size, member));
+	}
+
 	@PostMapping("/{boardId}/comment")
 	public ResponseEntity<?> writeComment(
 		@PathVariable Long boardId,
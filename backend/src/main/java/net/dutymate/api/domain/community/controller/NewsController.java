@@ -12,8 +12,6 @@ import org.springframework.web.server.ResponseStatusException;
 
 import net.dutymate.api.domain.community.service.NewsService;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -24,7 +22,7 @@ public class NewsController {
 	private final NewsService newsService;
 
 	@GetMapping
-	public ResponseEntity<?> getNews() throws JsonProcessingException {
+	public ResponseEntity<?> getNews() {
 		return ResponseEntity.ok(newsService.getNews());
 	}
 }
@@ -30,6 +30,7 @@ public class BoardCreateRequestDto {
 			.likesCntLow(0)
 			.likesCntMid(0)
 			.likesCntHigh(0)
+			.commentCnt(0)
 			.build();
 	}
 }
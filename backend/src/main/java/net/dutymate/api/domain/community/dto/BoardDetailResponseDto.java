@@ -27,9 +27,11 @@ public class BoardDetailResponseDto {
 	private Integer commentCnt;
 	private Boolean isMyWrite;
 	private Boolean isLike;
-	private List<CommentDto> comments;
+	private List<CommentDto> comments; // 댓글 첫 페이지
+	private Long nextCommentCursor; // 다음 댓글 페이지 조회 커서 (마지막 페이지면 null)
 
-	public static BoardDetailResponseDto of(Board board, Member loginMember, boolean isLike) {
+	public static BoardDetailResponseDto of(Board board, int viewCnt, Member loginMember, boolean isLike,
+		CommentPageResponseDto commentPage) {
 		return BoardDetailResponseDto.builder()
 			.boardId(board.getBoardId())
 			.nickname(board.getMember().getNickname())
@@ -39,12 +41,13 @@ public class BoardDetailResponseDto {
 			.boardImgUrl(board.getBoardImageUrl())
 			.category(board.getCategory())
 			.createdAt(board.getCreatedAt().toString())
-			.viewCnt(board.getViewCnt())
+			.viewCnt(viewCnt)
 			.likeCnt(board.getLikesCntHigh() + board.getLikesCntMid() + board.getLikesCntLow())
-			.commentCnt(board.getCommentList().size())
+			.commentCnt(board.getCommentCnt())
 			.isMyWrite(loginMember == board.getMember())
 			.isLike(isLike)
-			.comments(board.getCommentList().stream().map(o -> CommentDto.of(o, loginMember)).toList())
+			.comments(commentPage.getComments())
+			.nextCommentCursor(commentPage.getNextCursor())
 			.build();
 	}
 
@@ -65,7 +68,7 @@ public class BoardDetailResponseDto {
 				.profileImg(comment.getMember().getProfileImg())
 				.createdAt(comment.getCreatedAt().toString())
 				.content(comment.getContent())
-				.isMyWrite(loginMember == comment.getMember())
+				.isMyWrite(loginMember.getMemberId().equals(comment.getMember().getMemberId()))
 				.build();
 		}
 	}
@@ -0,0 +1,78 @@
+package net.dutymate.api.domain.community.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import net.dutymate.api.domain.community.HotBoard;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BoardFeedResponseDto {
+
+	private static final String CURSOR_SEPARATOR = "_";
+	private static final Timestamp MAX_CREATED_AT = Timestamp.valueOf("9999-12-31 00:00:00");
+
+	private List<BoardListResponseDto> boards;
+	private String nextCursor; // 다음 페이지 조회 커서 (마지막 페이지면 null)
+
+	// size + 1개를 조회한 결과로 다음 페이지 여부 판단
+	public static BoardFeedResponseDto of(List<BoardListResponseDto> boards, int size) {
+		if (boards.size() <= size) {
+			return BoardFeedResponseDto.builder().boards(boards).build();
+		}
+
+		List<BoardListResponseDto> page = boards.subList(0, size);
+		BoardListResponseDto last = page.get(size - 1);
+		return BoardFeedResponseDto.builder()
+			.boards(page)
+			.nextCursor(encodeCursor(Timestamp.valueOf(last.getCreatedAt()), last.getBoardId()))
+			.build();
+	}
+
+	// 인기글 목록 : 커서는 (인기글 등록 시각, 게시글 ID)
+	public static BoardFeedResponseDto ofHot(List<HotBoard> hotBoards, int size) {
+		List<HotBoard> page = hotBoards.size() <= size ? hotBoards : hotBoards.subList(0, size);
+		HotBoard last = page.isEmpty() ? null : page.getLast();
+		return BoardFeedResponseDto.builder()
+			.boards(page.stream().map(BoardListResponseDto::of).toList())
+			.nextCursor(hotBoards.size() > size
+				? encodeCursor(last.getUploadAtHotBoard(), last.getBoard().getBoardId()) : null)
+			.build();
+	}
+
+	// 커서 : (작성 시각, 게시글 ID) 를 Base64로 인코딩한 값
+	public static String encodeCursor(Timestamp createdAt, Long boardId) {
+		String raw = createdAt + CURSOR_SEPARATOR + boardId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public record Cursor(Timestamp createdAt, Long boardId) {
+
+		// 첫 페이지 : 모든 게시글보다 뒤의 위치
+		public static Cursor first() {
+			return new Cursor(MAX_CREATED_AT, Long.MAX_VALUE);
+		}
+
+		public static Cursor decode(String cursor) {
+			if (cursor == null || cursor.isBlank()) {
+				return first();
+			}
+			try {
+				String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				int separatorIdx = raw.lastIndexOf(CURSOR_SEPARATOR);
+				return new Cursor(Timestamp.valueOf(raw.substring(0, separatorIdx)),
+					Long.parseLong(raw.substring(separatorIdx + 1)));
+			} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+			}
+		}
+	}
+}
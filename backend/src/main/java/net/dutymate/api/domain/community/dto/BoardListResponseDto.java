@@ -1,13 +1,19 @@
 package net.dutymate.api.domain.community.dto;
 
+import java.sql.Timestamp;
+
 import net.dutymate.api.domain.community.Board;
 import net.dutymate.api.domain.community.Category;
+import net.dutymate.api.domain.community.HotBoard;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class BoardListResponseDto {
 
 	private Long boardId;
@@ -21,6 +27,37 @@ public class BoardListResponseDto {
 	private Integer viewCnt;
 	private Integer likeCnt;
 	private Integer commentCnt;
+	private String boardThumbnailUrl; // 목록용 작은 이미지 (생성이 확인되지 않았으면 null, boardImgUrl 사용)
+
+	// 목록 조회 프로젝션 (BoardRepository JPQL 생성자 표현식)
+	public BoardListResponseDto(Long boardId, String nickname, String profileImg, String title, String content,
+		String boardImgUrl, String boardThumbnailUrl, Category category, Timestamp createdAt, Integer viewCnt,
+		Integer likeCnt, Integer commentCnt) {
+		this(boardId, nickname, profileImg, title, content, boardImgUrl, category, createdAt.toString(), viewCnt,
+			likeCnt, commentCnt, boardThumbnailUrl);
+	}
+
+	public static BoardListResponseDto of(HotBoard hotBoard) {
+		// 복사 컬럼이 채워지기 전 인기글 (컬럼 추가 후 HotBoardRepository.syncAll 전) 은 게시글에서 읽음
+		if (hotBoard.getBoardCreatedAt() == null) {
+			return of(hotBoard.getBoard());
+		}
+
+		return BoardListResponseDto.builder()
+			.boardId(hotBoard.getBoard().getBoardId())
+			.nickname(hotBoard.getNickname())
+			.profileImg(hotBoard.getProfileImg())
+			.title(hotBoard.getTitle())
+			.content(hotBoard.getContent())
+			.boardImgUrl(hotBoard.getBoardImageUrl())
+			.boardThumbnailUrl(hotBoard.getBoardThumbnailUrl())
+			.category(hotBoard.getCategory())
+			.createdAt(hotBoard.getBoardCreatedAt().toString())
+			.viewCnt(hotBoard.getViewCnt())
+			.likeCnt(hotBoard.getLikeCnt())
+			.commentCnt(hotBoard.getCommentCnt())
+			.build();
+	}
 
 	public static BoardListResponseDto of(Board board) {
 		return BoardListResponseDto.builder()
@@ -30,11 +67,12 @@ public class BoardListResponseDto {
 			.title(board.getTitle())
 			.content(board.getContent())
 			.boardImgUrl(board.getBoardImageUrl())
+			.boardThumbnailUrl(board.getBoardThumbnailUrl())
 			.category(board.getCategory())
 			.createdAt(board.getCreatedAt().toString())
 			.viewCnt(board.getViewCnt())
 			.likeCnt(board.getLikesCntHigh() + board.getLikesCntMid() + board.getLikesCntLow())
-			.commentCnt(board.getCommentList().size())
+			.commentCnt(board.getCommentCnt())
 			.build();
 	}
 }
@@ -0,0 +1,24 @@
+package net.dutymate.api.domain.community.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BoardSearchResponseDto {
+
+	private List<BoardListResponseDto> boards;
+	private int page;
+	private boolean hasNext;
+
+	// size + 1개를 조회한 결과로 다음 페이지 여부 판단
+	public static BoardSearchResponseDto of(List<BoardListResponseDto> boards, int page, int size) {
+		return BoardSearchResponseDto.builder()
+			.boards(boards.size() <= size ? boards : boards.subList(0, size))
+			.page(page)
+			.hasNext(boards.size() > size)
+			.build();
+	}
+}
@@ -0,0 +1,26 @@
+package net.dutymate.api.domain.community.dto;
+
+import java.util.List;
+
+import net.dutymate.api.domain.community.Comment;
+import net.dutymate.api.domain.member.Member;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CommentPageResponseDto {
+
+	private List<BoardDetailResponseDto.CommentDto> comments;
+	private Long nextCursor; // 다음 페이지 조회 커서 (마지막 댓글 ID, 마지막 페이지면 null)
+
+	// size + 1개를 조회한 결과로 다음 페이지 여부 판단
+	public static CommentPageResponseDto of(List<Comment> comments, int size, Member loginMember) {
+		List<Comment> page = comments.size() <= size ? comments : comments.subList(0, size);
+		return CommentPageResponseDto.builder()
+			.comments(page.stream().map(comment -> BoardDetailResponseDto.CommentDto.of(comment, loginMember)).toList())
+			.nextCursor(comments.size() > size ? page.get(size - 1).getCommentId() : null)
+			.build();
+	}
+}
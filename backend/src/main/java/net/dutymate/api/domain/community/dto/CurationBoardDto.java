@@ -0,0 +1,14 @@
+package net.dutymate.api.domain.community.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 추천 점수 계산에 필요한 값 (BoardRepository 프로젝션)
+ */
+public record CurationBoardDto(Long boardId, Integer authorGrade, Timestamp createdAt, Integer likesCntLow,
+	Integer likesCntMid, Integer likesCntHigh) {
+
+	public int getTotalLikes() {
+		return likesCntLow + likesCntMid + likesCntHigh;
+	}
+}
@@ -1,6 +1,9 @@
 package net.dutymate.api.domain.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import net.dutymate.api.domain.community.Board;
@@ -9,7 +12,16 @@ import net.dutymate.api.domain.member.Member;
 
 @Repository
 public interface BoardLikesRepository extends JpaRepository<BoardLikes, Long> {
-	void deleteByBoardAndMember(Board board, Member member);
-
 	boolean existsByBoardAndMember(Board board, Member member);
+
+	// (게시글, 회원) 유니크 제약으로 중복 좋아요 무시 : 추가되면 1, 이미 있으면 0
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO board_likes (board_id, member_id) VALUES (:boardId, :memberId)",
+		nativeQuery = true)
+	int insertIfAbsent(@Param("boardId") Long boardId, @Param("memberId") Long memberId);
+
+	// 삭제되면 1, 없으면 0
+	@Modifying
+	@Query("DELETE FROM BoardLikes bl WHERE bl.board.boardId = :boardId AND bl.member.memberId = :memberId")
+	int deleteByBoardIdAndMemberId(@Param("boardId") Long boardId, @Param("memberId") Long memberId);
 }
@@ -1,18 +1,113 @@
 package net.dutymate.api.domain.community.repository;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import net.dutymate.api.domain.community.Board;
 import net.dutymate.api.domain.community.Category;
+import net.dutymate.api.domain.community.dto.BoardListResponseDto;
+import net.dutymate.api.domain.community.dto.CurationBoardDto;
 import net.dutymate.api.domain.member.Member;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-	List<Board> findAllByCategory(Category category, Sort sort);
+
+	// 목록 조회 프로젝션 (작성자 닉네임, 프로필 이미지 조인, 유지되는 댓글 수 사용)
+	String LIST_SELECT = "SELECT new net.dutymate.api.domain.community.dto.BoardListResponseDto("
+		+ "b.boardId, m.nickname, m.profileImg, b.title, b.content, b.boardImageUrl, b.boardThumbnailUrl, "
+		+ "b.category, b.createdAt, b.viewCnt, b.likesCntLow + b.likesCntMid + b.likesCntHigh, b.commentCnt) ";
+
+	// (작성 시각, 게시글 ID) 키셋 : 커서 위치 이후 게시글
+	String KEYSET_CONDITION = "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.boardId < :boardId)) ";
+	String KEYSET_ORDER = "ORDER BY b.createdAt DESC, b.boardId DESC";
 
 	boolean existsByBoardIdAndMember(Long boardId, Member member);
+
+	@Query(LIST_SELECT
+		+ "FROM Board b JOIN b.member m "
+		+ "WHERE " + KEYSET_CONDITION
+		+ KEYSET_ORDER)
+	List<BoardListResponseDto> findFeed(@Param("createdAt") Timestamp createdAt, @Param("boardId") Long boardId,
+		Limit limit);
+
+	@Query(LIST_SELECT
+		+ "FROM Board b JOIN b.member m "
+		+ "WHERE b.category = :category AND " + KEYSET_CONDITION
+		+ KEYSET_ORDER)
+	List<BoardListResponseDto> findFeedByCategory(@Param("category") Category category,
+		@Param("createdAt") Timestamp createdAt, @Param("boardId") Long boardId, Limit limit);
+
+	@Query(LIST_SELECT
+		+ "FROM Board b JOIN b.member m "
+		+ "WHERE b.boardId IN :boardIds")
+	List<BoardListResponseDto> findAllListByBoardIdIn(@Param("boardIds") List<Long> boardIds);
+
+	/**
+	 * 전문 검색 (FULLTEXT ngram 인덱스, BoardSearchIndexService)
+	 * 제목/내용 일치 점수와 댓글 일치 점수(게시글별 최대값)의 합으로 정렬한다.
+	 * category가 null이면 전체, hotOnly면 인기글만 조회
+	 */
+	@Query(value = "SELECT s.board_id FROM ("
+		+ "SELECT board_id, MATCH(title, content) AGAINST(:query IN BOOLEAN MODE) AS score FROM board "
+		+ "WHERE MATCH(title, content) AGAINST(:query IN BOOLEAN MODE) "
+		+ "UNION ALL "
+		+ "SELECT board_id, MAX(MATCH(content) AGAINST(:query IN BOOLEAN MODE)) AS score FROM comment "
+		+ "WHERE MATCH(content) AGAINST(:query IN BOOLEAN MODE) GROUP BY board_id"
+		+ ") s JOIN board b ON b.board_id = s.board_id "
+		+ "WHERE (:category IS NULL OR b.category = :category) "
+		+ "AND (:hotOnly = FALSE OR EXISTS (SELECT 1 FROM hot_board h WHERE h.board_id = b.board_id)) "
+		+ "GROUP BY s.board_id "
+		+ "ORDER BY SUM(s.score) DESC, s.board_id DESC "
+		+ "LIMIT :limit OFFSET :offset", nativeQuery = true)
+	List<Long> searchBoardIds(@Param("query") String query, @Param("category") String category,
+		@Param("hotOnly") boolean hotOnly, @Param("limit") int limit, @Param("offset") int offset);
+
+	// 연차 구간별 좋아요 수 원자적 증감 (Board.likesCntDelta)
+	@Modifying
+	@Query("UPDATE Board b SET b.likesCntLow = b.likesCntLow + :low, b.likesCntMid = b.likesCntMid + :mid, "
+		+ "b.likesCntHigh = b.likesCntHigh + :high WHERE b.boardId = :boardId")
+	int updateLikesCnt(@Param("boardId") Long boardId, @Param("low") int low, @Param("mid") int mid,
+		@Param("high") int high);
+
+	// 썸네일 생성 완료 반영 (같은 이미지를 쓰는 게시글)
+	@Modifying
+	@Query("UPDATE Board b SET b.boardThumbnailUrl = :boardThumbnailUrl WHERE b.boardImageUrl = :boardImageUrl")
+	int updateBoardThumbnailUrl(@Param("boardImageUrl") String boardImageUrl,
+		@Param("boardThumbnailUrl") String boardThumbnailUrl);
+
+	@Query("SELECT b.likesCntLow + b.likesCntMid + b.likesCntHigh FROM Board b WHERE b.boardId = :boardId")
+	int findLikesCnt(@Param("boardId") Long boardId);
+
+	// 추천 점수 계산용 프로젝션
+	String CURATION_SELECT = "SELECT new net.dutymate.api.domain.community.dto.CurationBoardDto("
+		+ "b.boardId, m.grade, b.createdAt, b.likesCntLow, b.likesCntMid, b.likesCntHigh) "
+		+ "FROM Board b JOIN b.member m ";
+
+	@Query(CURATION_SELECT)
+	List<CurationBoardDto> findAllCurationBoards();
+
+	@Query(CURATION_SELECT + "WHERE b.boardId = :boardId")
+	Optional<CurationBoardDto> findCurationBoard(@Param("boardId") Long boardId);
+
+	@Modifying
+	@Query("UPDATE Board b SET b.commentCnt = b.commentCnt + 1 WHERE b.boardId = :boardId")
+	int increaseCommentCnt(@Param("boardId") Long boardId);
+
+	@Modifying
+	@Query("UPDATE Board b SET b.commentCnt = b.commentCnt - 1 WHERE b.boardId = :boardId AND b.commentCnt > 0")
+	int decreaseCommentCnt(@Param("boardId") Long boardId);
+
+	// 댓글 수 보정 (컬럼 추가 전 게시글, 회원 탈퇴로 함께 삭제된 댓글 반영)
+	@Modifying
+	@Query("UPDATE Board b SET b.commentCnt = (SELECT COUNT(c) FROM Comment c WHERE c.board = b) "
+		+ "WHERE b.commentCnt IS NULL OR b.commentCnt <> (SELECT COUNT(c) FROM Comment c WHERE c.board = b)")
+	int reconcileCommentCnt();
 }
@@ -1,6 +1,11 @@
 package net.dutymate.api.domain.community.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import net.dutymate.api.domain.community.Comment;
@@ -9,4 +14,10 @@ import net.dutymate.api.domain.member.Member;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 	boolean existsByCommentIdAndMember(Long commentId, Member member);
+
+	// 댓글 ID 키셋 페이지 (작성 순, 작성자 함께 조회), board_id 외래 키 인덱스 사용
+	@Query("SELECT c FROM Comment c JOIN FETCH c.member "
+		+ "WHERE c.board.boardId = :boardId AND c.commentId > :commentId "
+		+ "ORDER BY c.commentId")
+	List<Comment> findPage(@Param("boardId") Long boardId, @Param("commentId") Long commentId, Limit limit);
 }
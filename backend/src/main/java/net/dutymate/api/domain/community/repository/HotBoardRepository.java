@@ -1,13 +1,79 @@
 package net.dutymate.api.domain.community.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import net.dutymate.api.domain.community.Board;
+import net.dutymate.api.domain.community.Category;
 import net.dutymate.api.domain.community.HotBoard;
 
 @Repository
 public interface HotBoardRepository extends JpaRepository<HotBoard, Long> {
 
-	void deleteByBoard(Board board);
+	/**
+	 * 인기글 승격 : 목록 행에 필요한 값을 게시글, 작성자에서 복사
+	 * 게시글당 하나 (board_id 유니크) : 추가되면 1, 이미 인기글이면 0
+	 */
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO hot_board (board_id, upload_at_hot_board, nickname, profile_img, title, "
+		+ "content, board_image_url, board_thumbnail_url, category, board_created_at, view_cnt, like_cnt, "
+		+ "comment_cnt) "
+		+ "SELECT b.board_id, :uploadAt, m.nickname, m.profile_img, b.title, b.content, b.board_image_url, "
+		+ "b.board_thumbnail_url, b.category, b.created_at, b.view_cnt, "
+		+ "b.likes_cnt_low + b.likes_cnt_mid + b.likes_cnt_high, b.comment_cnt "
+		+ "FROM board b JOIN member m ON m.member_id = b.member_id "
+		+ "WHERE b.board_id = :boardId",
+		nativeQuery = true)
+	int insertIfAbsent(@Param("boardId") Long boardId, @Param("uploadAt") Timestamp uploadAt);
+
+	@Modifying
+	@Query("DELETE FROM HotBoard h WHERE h.board.boardId = :boardId")
+	int deleteByBoardId(@Param("boardId") Long boardId);
+
+	// 인기글 목록 (인기글 등록 시각, 게시글 ID 내림차순 키셋)
+	@Query("SELECT h FROM HotBoard h "
+		+ "WHERE h.uploadAtHotBoard < :uploadAt "
+		+ "OR (h.uploadAtHotBoard = :uploadAt AND h.board.boardId < :boardId) "
+		+ "ORDER BY h.uploadAtHotBoard DESC, h.board.boardId DESC")
+	List<HotBoard> findFeed(@Param("uploadAt") Timestamp uploadAt, @Param("boardId") Long boardId, Limit limit);
+
+	// 아래 갱신은 인기글이 아니면 영향 없음 (0 반환)
+	@Modifying
+	@Query("UPDATE HotBoard h SET h.title = :title, h.content = :content, h.category = :category, "
+		+ "h.boardImageUrl = :boardImageUrl, h.boardThumbnailUrl = :boardThumbnailUrl "
+		+ "WHERE h.board.boardId = :boardId")
+	int updateBoard(@Param("boardId") Long boardId, @Param("title") String title, @Param("content") String content,
+		@Param("category") Category category, @Param("boardImageUrl") String boardImageUrl,
+		@Param("boardThumbnailUrl") String boardThumbnailUrl);
+
+	@Modifying
+	@Query("UPDATE HotBoard h SET h.boardThumbnailUrl = :boardThumbnailUrl WHERE h.boardImageUrl = :boardImageUrl")
+	int updateBoardThumbnailUrl(@Param("boardImageUrl") String boardImageUrl,
+		@Param("boardThumbnailUrl") String boardThumbnailUrl);
+
+	@Modifying
+	@Query("UPDATE HotBoard h SET h.likeCnt = h.likeCnt + :delta WHERE h.board.boardId = :boardId")
+	int updateLikeCnt(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+	@Modifying
+	@Query("UPDATE HotBoard h SET h.commentCnt = h.commentCnt + :delta WHERE h.board.boardId = :boardId")
+	int updateCommentCnt(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+	// 게시글, 작성자와 다시 맞춤 (컬럼 추가 전 인기글, 작성자 정보 변경, 조회수/댓글 수 보정 반영)
+	@Modifying
+	@Query(value = "UPDATE hot_board h JOIN board b ON b.board_id = h.board_id "
+		+ "JOIN member m ON m.member_id = b.member_id "
+		+ "SET h.nickname = m.nickname, h.profile_img = m.profile_img, h.title = b.title, h.content = b.content, "
+		+ "h.board_image_url = b.board_image_url, h.board_thumbnail_url = b.board_thumbnail_url, "
+		+ "h.category = b.category, h.board_created_at = b.created_at, "
+		+ "h.view_cnt = b.view_cnt, h.like_cnt = b.likes_cnt_low + b.likes_cnt_mid + b.likes_cnt_high, "
+		+ "h.comment_cnt = b.comment_cnt",
+		nativeQuery = true)
+	int syncAll();
 }
@@ -1,19 +1,40 @@
 package net.dutymate.api.domain.community.service;
 
 import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import net.dutymate.api.domain.community.Board;
+import net.dutymate.api.domain.community.dto.CurationBoardDto;
 import net.dutymate.api.domain.community.dto.RecommendResponseDto;
 import net.dutymate.api.domain.community.repository.BoardRepository;
 import net.dutymate.api.domain.member.Member;
 
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연차 그룹별 추천 게시글 랭킹
+ * 추천 점수는 조회하는 회원의 연차 그룹에 의해서만 달라지므로, 그룹별 상위 RANKING_SIZE개를 Redis sorted set에 미리 계산해 둔다.
+ * 시간 감쇠는 스케줄러가 주기적으로 전체를 다시 계산해 반영하고(refreshRankings),
+ * 좋아요/좋아요 취소 시에는 해당 게시글의 점수만 갱신한다(updateBoardScore).
+ * 요청 시에는 랭킹 상위 항목과 게시글 제목만 조회한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BoardCurationService {
@@ -25,44 +46,164 @@ public class BoardCurationService {
 	private static final double LIKE_COUNT_POWER = 3.0;
 	private static final double LIKE_RATIO_POWER = 2.0;
 
+	private static final int[] GRADE_GROUPS = {1, 2, 3};
+	private static final int CURATED_SIZE = 3;
+	// 삭제된 게시글이 섞여 있어도 CURATED_SIZE개를 채울 수 있도록 여유 있게 보관
+	private static final int RANKING_SIZE = 20;
+	private static final String RANKING_KEY_PREFIX = "board:curation:";
+
+	// 점수 내림차순, 점수가 같으면 먼저 작성된 게시글 우선
+	private static final Comparator<ScoredBoard> RANKING_ORDER = Comparator
+		.comparingDouble(ScoredBoard::score).reversed()
+		.thenComparing(ScoredBoard::boardId);
+
 	private final BoardRepository boardRepository;
+	private final StringRedisTemplate redisTemplate;
 
 	public RecommendResponseDto getCuratedBoards(Member viewer) {
-		List<Board> boards = boardRepository.findAll();
-		List<CuratedBoard> curatedBoards = boards.stream()
-			.map(board -> new CuratedBoard(board, calculateScore(board, viewer)))
-			.sorted((a, b) -> Double.compare(b.getScore(), a.getScore()))
-			.limit(3)
-			.toList();
+		int gradeGroup = getGradeGroup(viewer.getGrade());
+		List<ScoredBoard> ranking = readRanking(gradeGroup);
+		if (ranking == null) {
+			ranking = rank(boardRepository.findAllCurationBoards(), gradeGroup, System.currentTimeMillis());
+		}
+
+		List<Long> boardIds = ranking.stream().map(ScoredBoard::boardId).toList();
+		Map<Long, Board> boards = boardRepository.findAllById(boardIds).stream()
+			.collect(Collectors.toMap(Board::getBoardId, Function.identity()));
+
+		return createResponseDto(boardIds.stream()
+			.map(boards::get)
+			.filter(Objects::nonNull)
+			.limit(CURATED_SIZE)
+			.toList());
+	}
+
+	/**
+	 * 전체 게시글 점수를 다시 계산해 연차 그룹별 랭킹 교체 (시간 감쇠 반영)
+	 */
+	public void refreshRankings() {
+		List<CurationBoardDto> boards = boardRepository.findAllCurationBoards();
+		long now = System.currentTimeMillis();
+
+		for (int gradeGroup : GRADE_GROUPS) {
+			String key = RANKING_KEY_PREFIX + gradeGroup;
+			List<ScoredBoard> ranking = rank(boards, gradeGroup, now);
+			if (ranking.isEmpty()) {
+				redisTemplate.delete(key);
+				continue;
+			}
+
+			Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+			ranking.forEach(scoredBoard -> tuples.add(
+				ZSetOperations.TypedTuple.of(String.valueOf(scoredBoard.boardId()), scoredBoard.score())));
+
+			// 임시 키에 채운 뒤 교체하여 조회 중에 빈 랭킹이 보이지 않도록 함
+			String tempKey = key + ":tmp";
+			redisTemplate.delete(tempKey);
+			redisTemplate.opsForZSet().add(tempKey, tuples);
+			redisTemplate.rename(tempKey, key);
+		}
+	}
 
-		return createResponseDto(curatedBoards);
+	/**
+	 * 좋아요 수가 바뀐 게시글의 점수를 랭킹에 반영 (트랜잭션 커밋 이후)
+	 * 호출하는 트랜잭션 안에서 변경된 좋아요 수를 읽어 둔다.
+	 */
+	public void updateBoardScore(Long boardId) {
+		boardRepository.findCurationBoard(boardId).ifPresent(board -> {
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						writeBoardScore(board);
+					}
+				});
+			} else {
+				writeBoardScore(board);
+			}
+		});
+	}
+
+	// 삭제된 게시글을 랭킹에서 제거
+	public void removeBoard(Long boardId) {
+		try {
+			for (int gradeGroup : GRADE_GROUPS) {
+				redisTemplate.opsForZSet().remove(RANKING_KEY_PREFIX + gradeGroup, String.valueOf(boardId));
+			}
+		} catch (DataAccessException e) {
+			log.warn("추천 게시글 랭킹 제거 실패 boardId={}", boardId, e);
+		}
 	}
 
-	private double calculateScore(Board board, Member viewer) {
-		int totalLikes = getTotalLikes(board);
+	private void writeBoardScore(CurationBoardDto board) {
+		long now = System.currentTimeMillis();
+		try {
+			for (int gradeGroup : GRADE_GROUPS) {
+				String key = RANKING_KEY_PREFIX + gradeGroup;
+				// 아직 랭킹이 만들어지지 않았으면 refreshRankings에 맡김
+				if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+					continue;
+				}
+				redisTemplate.opsForZSet()
+					.add(key, String.valueOf(board.boardId()), calculateScore(board, gradeGroup, now));
+				redisTemplate.opsForZSet().removeRange(key, 0, -RANKING_SIZE - 1);
+			}
+		} catch (DataAccessException e) {
+			log.warn("추천 게시글 점수 갱신 실패 boardId={}", board.boardId(), e);
+		}
+	}
+
+	// 랭킹이 없거나 Redis 장애 시 null
+	private List<ScoredBoard> readRanking(int gradeGroup) {
+		try {
+			Set<ZSetOperations.TypedTuple<String>> tuples =
+				redisTemplate.opsForZSet().reverseRangeWithScores(RANKING_KEY_PREFIX + gradeGroup, 0, RANKING_SIZE - 1);
+			if (tuples == null || tuples.isEmpty()) {
+				return null;
+			}
+			return tuples.stream()
+				.map(tuple -> new ScoredBoard(Long.valueOf(tuple.getValue()), tuple.getScore()))
+				.sorted(RANKING_ORDER)
+				.toList();
+		} catch (DataAccessException e) {
+			log.warn("추천 게시글 랭킹 조회 실패", e);
+			return null;
+		}
+	}
+
+	private List<ScoredBoard> rank(List<CurationBoardDto> boards, int gradeGroup, long now) {
+		return boards.stream()
+			.map(board -> new ScoredBoard(board.boardId(), calculateScore(board, gradeGroup, now)))
+			.sorted(RANKING_ORDER)
+			.limit(RANKING_SIZE)
+			.toList();
+	}
+
+	private double calculateScore(CurationBoardDto board, int viewerGradeGroup, long now) {
+		int totalLikes = board.getTotalLikes();
 		if (totalLikes < MIN_LIKE_THRESHOLD) {
 			return 0.3;
 		}
 
-		double likeScore = calculateLikeScore(board, viewer);
-		double timeDecay = calculateTimeDecay(board.getCreatedAt());
-		double gradeWeight = (getGradeGroup(board.getMember().getGrade()) == getGradeGroup(viewer.getGrade()))
+		double likeScore = calculateLikeScore(board, viewerGradeGroup);
+		double timeDecay = calculateTimeDecay(board.createdAt(), now);
+		double gradeWeight = (getGradeGroup(board.authorGrade()) == viewerGradeGroup)
 			? SAME_GRADE_WEIGHT
 			: OTHER_GRADE_WEIGHT;
 
 		return Math.pow(likeScore, 1.5) * timeDecay * gradeWeight;
 	}
 
-	private double calculateLikeScore(Board board, Member viewer) {
-		int totalLikes = getTotalLikes(board);
+	private double calculateLikeScore(CurationBoardDto board, int viewerGradeGroup) {
+		int totalLikes = board.getTotalLikes();
 		if (totalLikes == 0) {
 			return 0;
 		}
 
-		int gradeGroupLikes = switch (getGradeGroup(viewer.getGrade())) {
-			case 1 -> board.getLikesCntLow();
-			case 2 -> board.getLikesCntMid();
-			case 3 -> board.getLikesCntHigh();
+		int gradeGroupLikes = switch (viewerGradeGroup) {
+			case 1 -> board.likesCntLow();
+			case 2 -> board.likesCntMid();
+			case 3 -> board.likesCntHigh();
 			default -> 0;
 		};
 
@@ -84,27 +225,21 @@ public class BoardCurationService {
 		return 3;                  // 고연차
 	}
 
-	private double calculateTimeDecay(Timestamp createdAt) {
-		long hoursSinceCreation = TimeUnit.MILLISECONDS.toHours(
-			System.currentTimeMillis() - createdAt.getTime()
-		);
+	private double calculateTimeDecay(Timestamp createdAt, long now) {
+		long hoursSinceCreation = TimeUnit.MILLISECONDS.toHours(now - createdAt.getTime());
 
 		return hoursSinceCreation <= 24
 			? 1.0 - (hoursSinceCreation * 0.01)
 			: Math.exp(-TIME_DECAY_FACTOR * (hoursSinceCreation - 24)) * 0.76;
 	}
 
-	private int getTotalLikes(Board board) {
-		return board.getLikesCntLow() + board.getLikesCntMid() + board.getLikesCntHigh();
-	}
-
-	private RecommendResponseDto createResponseDto(List<CuratedBoard> curatedBoards) {
+	private RecommendResponseDto createResponseDto(List<Board> curatedBoards) {
 		RecommendResponseDto responseDto = new RecommendResponseDto();
 		List<RecommendResponseDto.RecommendedBoard> recommendedBoards = curatedBoards.stream()
-			.map(curatedBoard -> {
+			.map(board -> {
 				RecommendResponseDto.RecommendedBoard recommendedBoard = new RecommendResponseDto.RecommendedBoard();
-				recommendedBoard.setBoardId(curatedBoard.getBoard().getBoardId());
-				recommendedBoard.setTitle(curatedBoard.getBoard().getTitle());
+				recommendedBoard.setBoardId(board.getBoardId());
+				recommendedBoard.setTitle(board.getTitle());
 				return recommendedBoard;
 			})
 			.toList();
@@ -112,14 +247,6 @@ public class BoardCurationService {
 		return responseDto;
 	}
 
-	@Getter
-	private static class CuratedBoard {
-		private final Board board;
-		private final double score;
-
-		public CuratedBoard(Board board, double score) {
-			this.board = board;
-			this.score = score;
-		}
+	private record ScoredBoard(Long boardId, double score) {
 	}
 }
@@ -0,0 +1,68 @@
+package net.dutymate.api.domain.community.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글/댓글 검색용 FULLTEXT 인덱스 (ngram 파서)
+ * JPA @Index로는 FULLTEXT 인덱스와 파서를 지정할 수 없어 서버 시작 시 없으면 생성한다.
+ * 인덱스는 InnoDB가 INSERT/UPDATE/DELETE와 함께 갱신하므로 별도 동기화가 필요 없다.
+ * 인덱스가 생성되기 전에는 MATCH 쿼리가 실패(MySQL 1191)하므로 검색 전에 isReady로 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardSearchIndexService {
+
+	private static final String BOARD_TABLE = "board";
+	private static final String BOARD_INDEX = "ft_board_title_content";
+	private static final String COMMENT_TABLE = "comment";
+	private static final String COMMENT_INDEX = "ft_comment_content";
+
+	private static final String EXISTS_INDEX_SQL = "SELECT COUNT(*) FROM information_schema.statistics "
+		+ "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 인덱스는 삭제하지 않으므로 한 번 확인되면 다시 조회하지 않음 (다른 인스턴스가 생성한 경우도 포함)
+	private volatile boolean ready;
+
+	// 생성한 인덱스 수 반환
+	public int createIndexes() {
+		int createdCnt = 0;
+		if (createIndex(BOARD_TABLE, BOARD_INDEX, "title, content")) {
+			createdCnt++;
+		}
+		if (createIndex(COMMENT_TABLE, COMMENT_INDEX, "content")) {
+			createdCnt++;
+		}
+		return createdCnt;
+	}
+
+	// 검색 인덱스가 모두 생성되었는지
+	public boolean isReady() {
+		if (!ready) {
+			ready = existsIndex(BOARD_TABLE, BOARD_INDEX) && existsIndex(COMMENT_TABLE, COMMENT_INDEX);
+		}
+		return ready;
+	}
+
+	private boolean existsIndex(String table, String indexName) {
+		Integer indexCnt = jdbcTemplate.queryForObject(EXISTS_INDEX_SQL, Integer.class, table, indexName);
+		return indexCnt != null && indexCnt > 0;
+	}
+
+	private boolean createIndex(String table, String indexName, String columns) {
+		if (existsIndex(table, indexName)) {
+			return false;
+		}
+
+		log.info("검색 인덱스 생성 {}.{}", table, indexName);
+		jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName
+			+ " (" + columns + ") WITH PARSER ngram");
+		return true;
+	}
+}
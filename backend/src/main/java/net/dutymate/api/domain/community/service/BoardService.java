@@ -1,8 +1,15 @@
 package net.dutymate.api.domain.community.service;
 
+import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -10,15 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.PresignedUploadResponseDto;
+import net.dutymate.api.domain.common.service.ImageThumbnailService;
+import net.dutymate.api.domain.common.service.PresignedUploadService;
 import net.dutymate.api.domain.common.service.S3Service;
 import net.dutymate.api.domain.community.Board;
-import net.dutymate.api.domain.community.BoardLikes;
 import net.dutymate.api.domain.community.Category;
-import net.dutymate.api.domain.community.HotBoard;
 import net.dutymate.api.domain.community.dto.BoardCreateRequestDto;
 import net.dutymate.api.domain.community.dto.BoardDetailResponseDto;
+import net.dutymate.api.domain.community.dto.BoardFeedResponseDto;
 import net.dutymate.api.domain.community.dto.BoardImgResponseDto;
 import net.dutymate.api.domain.community.dto.BoardListResponseDto;
+import net.dutymate.api.domain.community.dto.BoardSearchResponseDto;
 import net.dutymate.api.domain.community.dto.BoardUpdateRequestDto;
 import net.dutymate.api.domain.community.repository.BoardLikesRepository;
 import net.dutymate.api.domain.community.repository.BoardRepository;
@@ -33,10 +44,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BoardService {
 
+	private static final int DEFAULT_FEED_SIZE = 20;
+	private static final int MAX_FEED_SIZE = 50;
+	private static final int HOT_BOARD_LIKES_CNT = 10;
+	private static final String BOARD_IMAGE_DIR = "board";
+	private static final int MIN_SEARCH_TERM_LENGTH = 2; // ngram_token_size
+	private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
 	private final S3Service s3Service;
+	private final PresignedUploadService presignedUploadService;
 	private final BoardRepository boardRepository;
 	private final BoardLikesRepository boardLikesRepository;
 	private final HotBoardRepository hotBoardRepository;
+	private final BoardViewCountService boardViewCountService;
+	private final BoardCurationService boardCurationService;
+	private final BoardSearchIndexService boardSearchIndexService;
+	private final CommentService commentService;
 
 	@Transactional
 	public ResponseEntity<?> createBoard(BoardCreateRequestDto boardCreateRequestDto, Member member) {
@@ -48,6 +71,8 @@ public class BoardService {
 		boardCreateRequestDto.setContent(cleanContent);
 
 		Board newBoard = boardCreateRequestDto.toBoard(member, boardCreateRequestDto);
+		// 이미 생성된 썸네일만 기록 (이후 생성되면 onThumbnailCreated에서 기록)
+		newBoard.updateBoardThumbnailUrl(s3Service.findThumbnailUrl(newBoard.getBoardImageUrl()));
 		member.getBoardList().add(newBoard);
 		boardRepository.save(newBoard);
 
@@ -56,36 +81,145 @@ public class BoardService {
 
 	@Transactional(readOnly = true)
 	public List<BoardListResponseDto> getAllBoard(Category category) {
-		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+		if (category == Category.HOT) {
+			BoardFeedResponseDto.Cursor first = BoardFeedResponseDto.Cursor.first();
+			return fillListRows(hotBoardRepository.findFeed(first.createdAt(), first.boardId(), Limit.unlimited())
+				.stream().map(BoardListResponseDto::of).toList());
+		}
 
-		if (category == Category.ALL) {
-			return boardRepository.findAll(sort)
-				.stream()
-				.map(BoardListResponseDto::of)
-				.toList();
+		return fillListRows(findFeed(category, BoardFeedResponseDto.Cursor.first(), Limit.unlimited()));
+	}
+
+	// 커서 기반 게시글 목록 (작성 시각, 게시글 ID 내림차순)
+	@Transactional(readOnly = true)
+	public BoardFeedResponseDto getBoardFeed(Category category, String cursor, Integer size) {
+		int pageSize = size == null ? DEFAULT_FEED_SIZE : size;
+		if (pageSize < 1 || pageSize > MAX_FEED_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"한 번에 조회할 수 있는 게시글은 1 ~ " + MAX_FEED_SIZE + "개입니다.");
 		}
 
+		BoardFeedResponseDto.Cursor position = BoardFeedResponseDto.Cursor.decode(cursor);
+		BoardFeedResponseDto boardFeedResponseDto;
 		if (category == Category.HOT) {
-			return hotBoardRepository.findAll(Sort.by(Sort.Direction.DESC, "uploadAtHotBoard"))
-				.stream()
-				.map(HotBoard::getBoard)
-				.map(BoardListResponseDto::of)
-				.toList();
+			// 인기글 읽기 모델에서 조인 없이 조회
+			boardFeedResponseDto = BoardFeedResponseDto.ofHot(
+				hotBoardRepository.findFeed(position.createdAt(), position.boardId(), Limit.of(pageSize + 1)),
+				pageSize);
+		} else {
+			boardFeedResponseDto = BoardFeedResponseDto.of(findFeed(category, position, Limit.of(pageSize + 1)),
+				pageSize);
 		}
+		fillListRows(boardFeedResponseDto.getBoards());
+		return boardFeedResponseDto;
+	}
 
-		return boardRepository.findAllByCategory(category, sort)
-			.stream()
-			.map(BoardListResponseDto::of)
+	// 게시글 제목/내용, 댓글 전문 검색 (관련도 순, 페이지 번호는 0부터)
+	@Transactional(readOnly = true)
+	public BoardSearchResponseDto searchBoards(String query, Category category, int page, Integer size) {
+		int pageSize = size == null ? DEFAULT_FEED_SIZE : size;
+		if (pageSize < 1 || pageSize > MAX_FEED_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"한 번에 조회할 수 있는 게시글은 1 ~ " + MAX_FEED_SIZE + "개입니다.");
+		}
+		if (page < 0) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 번호입니다.");
+		}
+
+		String booleanQuery = toBooleanQuery(query);
+
+		// 서버 시작 후 검색 인덱스 생성이 끝나기 전 (BatchScheduler.createBoardSearchIndexes)
+		if (!boardSearchIndexService.isReady()) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "검색 준비 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		String categoryName = (category == null || category == Category.ALL || category == Category.HOT)
+			? null : category.name();
+		List<Long> boardIds = boardRepository.searchBoardIds(booleanQuery, categoryName, category == Category.HOT,
+			pageSize + 1, page * pageSize);
+
+		// 검색 순서 유지
+		Map<Long, BoardListResponseDto> boards = boardRepository.findAllListByBoardIdIn(boardIds).stream()
+			.collect(Collectors.toMap(BoardListResponseDto::getBoardId, Function.identity()));
+		List<BoardListResponseDto> orderedBoards = boardIds.stream()
+			.map(boards::get)
+			.filter(Objects::nonNull)
 			.toList();
+
+		BoardSearchResponseDto boardSearchResponseDto = BoardSearchResponseDto.of(orderedBoards, page, pageSize);
+		fillListRows(boardSearchResponseDto.getBoards());
+		return boardSearchResponseDto;
+	}
+
+	// 검색어를 BOOLEAN MODE 쿼리로 변환 (연산자 문자 제거, 모든 단어 포함)
+	private String toBooleanQuery(String query) {
+		if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"검색어는 " + MIN_SEARCH_TERM_LENGTH + " ~ " + MAX_SEARCH_QUERY_LENGTH + "자로 입력해주세요.");
+		}
+
+		String booleanQuery = Arrays.stream(query.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+			.filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+			.map(term -> "+" + term)
+			.collect(Collectors.joining(" "));
+		if (booleanQuery.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"검색어는 " + MIN_SEARCH_TERM_LENGTH + "자 이상의 단어를 포함해야 합니다.");
+		}
+		return booleanQuery;
+	}
+
+	private List<BoardListResponseDto> findFeed(Category category, BoardFeedResponseDto.Cursor cursor, Limit limit) {
+		if (category == Category.ALL) {
+			return boardRepository.findFeed(cursor.createdAt(), cursor.boardId(), limit);
+		}
+		return boardRepository.findFeedByCategory(category, cursor.createdAt(), cursor.boardId(), limit);
+	}
+
+	// 아직 DB에 반영되지 않은 조회수 합산, 목록용 썸네일 URL 설정
+	private List<BoardListResponseDto> fillListRows(List<BoardListResponseDto> boards) {
+		Map<Long, Integer> pendingCnts = boardViewCountService.getPendingCnts(
+			boards.stream().map(BoardListResponseDto::getBoardId).toList());
+		boards.forEach(
+			board -> board.setViewCnt(board.getViewCnt() + pendingCnts.getOrDefault(board.getBoardId(), 0)));
+		return boards;
+	}
+
+	// 게시글 이미지의 썸네일 생성 완료 시 목록용 썸네일 URL 기록 (ImageThumbnailService 백그라운드 스레드)
+	@EventListener
+	@Transactional
+	public void onThumbnailCreated(ImageThumbnailService.ThumbnailCreatedEvent event) {
+		if (!event.key().startsWith(BOARD_IMAGE_DIR + "/")) {
+			return;
+		}
+
+		String boardImageUrl = s3Service.getFileUrl(event.key());
+		String boardThumbnailUrl = s3Service.getFileUrl(event.thumbnailKey());
+		boardRepository.updateBoardThumbnailUrl(boardImageUrl, boardThumbnailUrl);
+		hotBoardRepository.updateBoardThumbnailUrl(boardImageUrl, boardThumbnailUrl);
+	}
+
+	// 댓글 수 보정
+	@Transactional
+	public int reconcileCommentCnt() {
+		return boardRepository.reconcileCommentCnt();
 	}
 
+	// 인기글 읽기 모델을 게시글, 작성자와 다시 맞춤
 	@Transactional
+	public int syncHotBoards() {
+		return hotBoardRepository.syncAll();
+	}
+
+	// 조회수는 Redis에만 증가시키고 주기적으로 DB에 반영 (BoardViewCountService)
+	@Transactional(readOnly = true)
 	public BoardDetailResponseDto getBoard(Long boardId, Member member) {
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다."));
-		board.increaseViewCnt();
+		boardViewCountService.increase(boardId, member.getMemberId());
+		int viewCnt = board.getViewCnt() + boardViewCountService.getPendingCnt(boardId);
 		boolean isLike = boardLikesRepository.existsByBoardAndMember(board, member);
-		return BoardDetailResponseDto.of(board, member, isLike);
+		return BoardDetailResponseDto.of(board, viewCnt, member, isLike, commentService.getFirstPage(boardId, member));
 	}
 
 	@Transactional
@@ -95,47 +229,71 @@ public class BoardService {
 		}
 
 		boardRepository.deleteById(boardId);
+		boardViewCountService.remove(boardId);
+		boardCurationService.removeBoard(boardId);
 	}
 
 	@Transactional
 	public BoardImgResponseDto uploadBoardImage(MultipartFile multipartFile) {
-		String dirName = "board";
-		String fileUrl = s3Service.uploadImage(dirName, multipartFile);
+		String fileUrl = s3Service.uploadImage(BOARD_IMAGE_DIR, multipartFile);
 
 		return BoardImgResponseDto.of(fileUrl);
 
 	}
 
+	// 클라이언트가 S3에 직접 올릴 URL 발급
+	public PresignedUploadResponseDto createBoardImageUpload(Member member,
+		PresignedUploadRequestDto presignedUploadRequestDto) {
+		return presignedUploadService.createUpload(BOARD_IMAGE_DIR, member.getMemberId(), presignedUploadRequestDto);
+	}
+
+	public BoardImgResponseDto completeBoardImageUpload(Member member, String key) {
+		String fileUrl = presignedUploadService.completeUpload(BOARD_IMAGE_DIR, member.getMemberId(), key);
+		return BoardImgResponseDto.of(fileUrl);
+	}
+
+	/**
+	 * 좋아요 (중복 요청은 무시)
+	 * 좋아요 수는 UPDATE 문으로 원자적으로 증가시키고, 게시글 행 잠금 안에서 인기글 여부를 판단한다.
+	 */
 	@Transactional
 	public void boardLike(Long boardId, Member member) {
-		Board board = boardRepository.findById(boardId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다."));
+		if (!boardRepository.existsById(boardId)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다.");
+		}
 
-		if (!boardLikesRepository.existsByBoardAndMember(board, member)) {
-			BoardLikes boardLikes = BoardLikes.builder().board(board).member(member).build();
-			boardLikesRepository.save(boardLikes);
-			board.increaseLikeCnt(member.getGrade());
+		if (boardLikesRepository.insertIfAbsent(boardId, member.getMemberId()) == 0) {
+			return;
+		}
 
-			if (board.getLikesCnt() == 10) {
-				HotBoard hotBoard = HotBoard.builder().board(board).build();
-				hotBoardRepository.save(hotBoard);
-			}
+		int[] delta = Board.likesCntDelta(member.getGrade(), 1);
+		boardRepository.updateLikesCnt(boardId, delta[0], delta[1], delta[2]);
+		hotBoardRepository.updateLikeCnt(boardId, 1);
+
+		if (boardRepository.findLikesCnt(boardId) >= HOT_BOARD_LIKES_CNT) {
+			hotBoardRepository.insertIfAbsent(boardId, new Timestamp(System.currentTimeMillis()));
 		}
+		boardCurationService.updateBoardScore(boardId);
 	}
 
 	@Transactional
 	public void boardLikeDelete(Long boardId, Member member) {
-		Board board = boardRepository.findById(boardId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다."));
+		if (!boardRepository.existsById(boardId)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다.");
+		}
+
+		if (boardLikesRepository.deleteByBoardIdAndMemberId(boardId, member.getMemberId()) == 0) {
+			return;
+		}
 
-		if (boardLikesRepository.existsByBoardAndMember(board, member)) {
-			boardLikesRepository.deleteByBoardAndMember(board, member);
-			board.decreaseLikeCnt(member.getGrade());
+		int[] delta = Board.likesCntDelta(member.getGrade(), -1);
+		boardRepository.updateLikesCnt(boardId, delta[0], delta[1], delta[2]);
+		hotBoardRepository.updateLikeCnt(boardId, -1);
 
-			if (board.getLikesCnt() == 9) {
-				hotBoardRepository.deleteByBoard(board);
-			}
+		if (boardRepository.findLikesCnt(boardId) < HOT_BOARD_LIKES_CNT) {
+			hotBoardRepository.deleteByBoardId(boardId);
 		}
+		boardCurationService.updateBoardScore(boardId);
 	}
 
 	@Transactional
@@ -155,5 +313,8 @@ public class BoardService {
 		boardUpdateRequestDto.setContent(cleanContent);
 
 		board.update(boardUpdateRequestDto);
+		board.updateBoardThumbnailUrl(s3Service.findThumbnailUrl(board.getBoardImageUrl()));
+		hotBoardRepository.updateBoard(boardId, board.getTitle(), board.getContent(), board.getCategory(),
+			board.getBoardImageUrl(), board.getBoardThumbnailUrl());
 	}
 }
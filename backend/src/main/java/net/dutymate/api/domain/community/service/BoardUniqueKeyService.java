@@ -0,0 +1,99 @@
+package net.dutymate.api.domain.community.service;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요/인기글 중복 방지 유니크 키 (BoardLikes, HotBoard)
+ * ddl-auto(update)는 이미 중복된 행이 있으면 유니크 키 추가에 실패해도 경고만 남기고 넘어간다.
+ * 서버 시작 시 키가 없으면 중복을 정리한 뒤 직접 추가하고, 그래도 없으면 예외를 던진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardUniqueKeyService {
+
+	// 이름과 관계없이 해당 컬럼들(순서대로)로 된 유니크 인덱스 수
+	private static final String EXISTS_UNIQUE_KEY_SQL = "SELECT COUNT(*) FROM ("
+		+ "SELECT index_name FROM information_schema.statistics "
+		+ "WHERE table_schema = DATABASE() AND table_name = ? AND non_unique = 0 "
+		+ "GROUP BY index_name HAVING GROUP_CONCAT(column_name ORDER BY seq_in_index) = ?) k";
+
+	private static final String DUPLICATED_LIKE_BOARD_IDS_SQL = "SELECT DISTINCT board_id FROM board_likes "
+		+ "GROUP BY board_id, member_id HAVING COUNT(*) > 1";
+	// 같은 (게시글, 회원) 좋아요 중 가장 먼저 생긴 것만 남김
+	private static final String DELETE_DUPLICATED_LIKES_SQL = "DELETE bl FROM board_likes bl "
+		+ "JOIN board_likes kept ON kept.board_id = bl.board_id AND kept.member_id = bl.member_id "
+		+ "AND kept.board_likes_id < bl.board_likes_id";
+	// 연차 구간별 좋아요 수 다시 세기 (Board.likesCntDelta와 같은 구간)
+	private static final String RECOUNT_LIKES_SQL = "UPDATE board b SET "
+		+ "b.likes_cnt_low = (SELECT COUNT(*) FROM board_likes bl JOIN member m ON m.member_id = bl.member_id "
+		+ "WHERE bl.board_id = b.board_id AND m.grade < 4), "
+		+ "b.likes_cnt_mid = (SELECT COUNT(*) FROM board_likes bl JOIN member m ON m.member_id = bl.member_id "
+		+ "WHERE bl.board_id = b.board_id AND m.grade >= 4 AND m.grade < 8), "
+		+ "b.likes_cnt_high = (SELECT COUNT(*) FROM board_likes bl JOIN member m ON m.member_id = bl.member_id "
+		+ "WHERE bl.board_id = b.board_id AND m.grade >= 8) "
+		+ "WHERE b.board_id = ?";
+	// 게시글당 가장 먼저 등록된 인기글만 남김
+	private static final String DELETE_DUPLICATED_HOT_BOARDS_SQL = "DELETE h FROM hot_board h "
+		+ "JOIN hot_board kept ON kept.board_id = h.board_id AND kept.hot_board_id < h.hot_board_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 생성한 유니크 키 수 반환
+	public int createUniqueKeys() {
+		int createdCnt = 0;
+		if (createUniqueKey("board_likes", "uk_board_likes_board_member", "board_id,member_id",
+			this::deduplicateLikes)) {
+			createdCnt++;
+		}
+		if (createUniqueKey("hot_board", "uk_hot_board_board_id", "board_id", this::deduplicateHotBoards)) {
+			createdCnt++;
+		}
+		return createdCnt;
+	}
+
+	private boolean createUniqueKey(String table, String keyName, String columns, Runnable deduplicate) {
+		if (existsUniqueKey(table, columns)) {
+			return false;
+		}
+
+		log.warn("유니크 키 없음, 중복 정리 후 생성 {}.{}", table, keyName);
+		deduplicate.run();
+		jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + keyName + " UNIQUE (" + columns + ")");
+
+		if (!existsUniqueKey(table, columns)) {
+			throw new IllegalStateException("유니크 키 생성 실패 " + table + "." + keyName);
+		}
+		return true;
+	}
+
+	private boolean existsUniqueKey(String table, String columns) {
+		Integer keyCnt = jdbcTemplate.queryForObject(EXISTS_UNIQUE_KEY_SQL, Integer.class, table, columns);
+		return keyCnt != null && keyCnt > 0;
+	}
+
+	// 중복 좋아요 삭제 후, 중복이 있던 게시글의 좋아요 수를 다시 셈
+	private void deduplicateLikes() {
+		List<Long> boardIds = jdbcTemplate.queryForList(DUPLICATED_LIKE_BOARD_IDS_SQL, Long.class);
+		if (boardIds.isEmpty()) {
+			return;
+		}
+
+		int deletedCnt = jdbcTemplate.update(DELETE_DUPLICATED_LIKES_SQL);
+		jdbcTemplate.batchUpdate(RECOUNT_LIKES_SQL, boardIds.stream().map(boardId -> new Object[] {boardId}).toList());
+		log.warn("중복 좋아요 {}건 삭제, 게시글 {}개 좋아요 수 재계산", deletedCnt, boardIds.size());
+	}
+
+	private void deduplicateHotBoards() {
+		int deletedCnt = jdbcTemplate.update(DELETE_DUPLICATED_HOT_BOARDS_SQL);
+		if (deletedCnt > 0) {
+			log.warn("중복 인기글 {}건 삭제", deletedCnt);
+		}
+	}
+}
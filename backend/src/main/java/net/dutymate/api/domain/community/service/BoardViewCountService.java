@@ -0,0 +1,172 @@
+package net.dutymate.api.domain.community.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 쓰기 지연 (write-behind)
+ * 조회 시에는 Redis 카운터만 증가시키고, 스케줄러가 주기적으로 모아서 MySQL에 반영한다.
+ * 조회수 응답은 DB 값 + 아직 반영되지 않은 Redis 증가분이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardViewCountService {
+
+	// 증가분과 대기열을 한 스크립트에서 다루므로 같은 해시 태그로 묶어 Redis Cluster에서도 같은 슬롯에 둔다.
+	private static final String DELTA_KEY_PREFIX = "{board:view}:delta:";
+	private static final String DIRTY_KEY = "{board:view}:dirty";
+	private static final String SEEN_KEY_PREFIX = "board:view:seen:";
+	private static final Duration SEEN_WINDOW = Duration.ofMinutes(10);
+	private static final int FLUSH_BATCH_SIZE = 500;
+	private static final String UPDATE_VIEW_CNT_SQL = "UPDATE board SET view_cnt = view_cnt + ? WHERE board_id = ?";
+	// 인기글 읽기 모델 (인기글이 아니면 영향 없음)
+	private static final String UPDATE_HOT_VIEW_CNT_SQL =
+		"UPDATE hot_board SET view_cnt = view_cnt + ? WHERE board_id = ?";
+
+	// KEYS[1]: 대기열, KEYS[i + 1]: ARGV[i] 게시글의 증가분 키
+	// 게시글을 대기열에서 빼고 증가분을 읽은 뒤 삭제 : {증가분, 증가분, ...} (ARGV 순서)
+	private static final RedisScript<List> POP_DELTAS_SCRIPT = RedisScript.of(
+		"local result = {} "
+			+ "for i = 2, #KEYS do "
+			+ "redis.call('SREM', KEYS[1], ARGV[i - 1]) "
+			+ "result[#result + 1] = redis.call('GETDEL', KEYS[i]) or '0' "
+			+ "end "
+			+ "return result", List.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	// 조회수 증가 (같은 회원이 SEEN_WINDOW 안에 다시 조회하면 세지 않음)
+	public void increase(Long boardId, Long memberId) {
+		try {
+			Boolean firstView = redisTemplate.opsForValue()
+				.setIfAbsent(SEEN_KEY_PREFIX + boardId + ":" + memberId, "1", SEEN_WINDOW);
+			if (!Boolean.TRUE.equals(firstView)) {
+				return;
+			}
+
+			redisTemplate.opsForValue().increment(DELTA_KEY_PREFIX + boardId);
+			redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(boardId));
+		} catch (DataAccessException e) {
+			log.warn("게시글 조회수 증가 실패 boardId={}", boardId, e);
+		}
+	}
+
+	// 아직 DB에 반영되지 않은 조회수 (Redis 장애 시 0)
+	public int getPendingCnt(Long boardId) {
+		return getPendingCnts(List.of(boardId)).getOrDefault(boardId, 0);
+	}
+
+	public Map<Long, Integer> getPendingCnts(List<Long> boardIds) {
+		Map<Long, Integer> pendingCnts = new HashMap<>();
+		if (boardIds.isEmpty()) {
+			return pendingCnts;
+		}
+
+		try {
+			List<String> values = redisTemplate.opsForValue()
+				.multiGet(boardIds.stream().map(boardId -> DELTA_KEY_PREFIX + boardId).toList());
+			for (int i = 0; values != null && i < boardIds.size(); i++) {
+				if (values.get(i) != null) {
+					pendingCnts.put(boardIds.get(i), Integer.parseInt(values.get(i)));
+				}
+			}
+		} catch (DataAccessException e) {
+			log.warn("게시글 조회수 증가분 조회 실패", e);
+		}
+		return pendingCnts;
+	}
+
+	// 삭제된 게시글의 카운터 제거
+	public void remove(Long boardId) {
+		try {
+			redisTemplate.delete(DELTA_KEY_PREFIX + boardId);
+		} catch (DataAccessException e) {
+			log.warn("게시글 조회수 카운터 삭제 실패 boardId={}", boardId, e);
+		}
+	}
+
+	/**
+	 * Redis 증가분을 MySQL에 일괄 반영
+	 * 게시글 ID를 꺼내면서 증가분을 읽고 0으로 만드는 것을 한 번에 하므로(POP_DELTAS_SCRIPT) 반영 중 들어온 조회는
+	 * 다음 주기에 반영되고, DB 반영 후 서버가 죽어도 같은 증가분을 다시 더하지 않는다.
+	 * DB 반영에 실패하면 꺼낸 증가분을 되돌린다. (꺼낸 뒤 반영 전에 서버가 죽으면 그 증가분만 유실)
+	 * @return 반영한 게시글 수
+	 */
+	public int flush() {
+		int flushedCnt = 0;
+		List<Object[]> updates;
+		while (!(updates = popDeltas()).isEmpty()) {
+			try {
+				List<Object[]> batch = updates;
+				transactionTemplate.executeWithoutResult(status -> {
+					jdbcTemplate.batchUpdate(UPDATE_VIEW_CNT_SQL, batch);
+					jdbcTemplate.batchUpdate(UPDATE_HOT_VIEW_CNT_SQL, batch);
+				});
+			} catch (RuntimeException e) {
+				restoreDeltas(updates);
+				throw e;
+			}
+			flushedCnt += updates.size();
+		}
+		return flushedCnt;
+	}
+
+	/**
+	 * {증가분, 게시글 ID} 목록 (증가분이 없는 게시글은 제외, 더 꺼낼 게시글이 없으면 빈 목록)
+	 * 대기열에서 게시글 ID를 먼저 고른 뒤 해당 키들을 스크립트에 넘겨 한 번에 꺼낸다.
+	 * 고른 뒤 들어온 조회도 스크립트가 함께 꺼내고, 스크립트 이후의 조회는 다시 대기열에 추가된다.
+	 */
+	private List<Object[]> popDeltas() {
+		while (true) {
+			List<String> boardIds =
+				new ArrayList<>(redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, FLUSH_BATCH_SIZE));
+			if (boardIds.isEmpty()) {
+				return List.of();
+			}
+
+			List<String> keys = new ArrayList<>();
+			keys.add(DIRTY_KEY);
+			boardIds.forEach(boardId -> keys.add(DELTA_KEY_PREFIX + boardId));
+			List<String> deltas = redisTemplate.execute(POP_DELTAS_SCRIPT, keys, boardIds.toArray());
+
+			List<Object[]> updates = new ArrayList<>();
+			for (int i = 0; deltas != null && i < deltas.size(); i++) {
+				long delta = Long.parseLong(deltas.get(i));
+				if (delta > 0) {
+					updates.add(new Object[] {delta, Long.parseLong(boardIds.get(i))});
+				}
+			}
+			if (!updates.isEmpty()) {
+				return updates;
+			}
+		}
+	}
+
+	// 다음 주기에 다시 반영
+	private void restoreDeltas(List<Object[]> updates) {
+		try {
+			for (Object[] update : updates) {
+				redisTemplate.opsForValue().increment(DELTA_KEY_PREFIX + update[1], (Long)update[0]);
+				redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(update[1]));
+			}
+		} catch (DataAccessException e) {
+			log.error("게시글 조회수 증가분 복구 실패 updates={}", updates.size(), e);
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package net.dutymate.api.domain.community.service;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -8,9 +11,11 @@ import org.springframework.web.server.ResponseStatusException;
 import net.dutymate.api.domain.community.Board;
 import net.dutymate.api.domain.community.Comment;
 import net.dutymate.api.domain.community.dto.BoardDetailResponseDto;
+import net.dutymate.api.domain.community.dto.CommentPageResponseDto;
 import net.dutymate.api.domain.community.dto.CommentRequestDto;
 import net.dutymate.api.domain.community.repository.BoardRepository;
 import net.dutymate.api.domain.community.repository.CommentRepository;
+import net.dutymate.api.domain.community.repository.HotBoardRepository;
 import net.dutymate.api.domain.member.Member;
 
 import lombok.RequiredArgsConstructor;
@@ -19,8 +24,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentService {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final CommentRepository commentRepository;
 	private final BoardRepository boardRepository;
+	private final HotBoardRepository hotBoardRepository;
 
 	@Transactional
 	public BoardDetailResponseDto.CommentDto writeComment(Long boardId, CommentRequestDto commentRequestDto,
@@ -29,11 +38,37 @@ public class CommentService {
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다."));
 		Comment comment = commentRequestDto.toComment(board, member);
 		commentRepository.save(comment);
-		board.getCommentList().add(comment);
+		boardRepository.increaseCommentCnt(boardId);
+		hotBoardRepository.updateCommentCnt(boardId, 1);
 
 		return BoardDetailResponseDto.CommentDto.of(comment, member);
 	}
 
+	// 댓글 목록 (작성 순, 커서는 이전 페이지의 마지막 댓글 ID)
+	@Transactional(readOnly = true)
+	public CommentPageResponseDto getComments(Long boardId, Long cursor, Integer size, Member member) {
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+		if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"한 번에 조회할 수 있는 댓글은 1 ~ " + MAX_PAGE_SIZE + "개입니다.");
+		}
+		if (!boardRepository.existsById(boardId)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 게시글입니다.");
+		}
+
+		return getCommentPage(boardId, cursor, pageSize, member);
+	}
+
+	// 게시글 상세 조회에 포함되는 첫 페이지
+	public CommentPageResponseDto getFirstPage(Long boardId, Member member) {
+		return getCommentPage(boardId, null, DEFAULT_PAGE_SIZE, member);
+	}
+
+	private CommentPageResponseDto getCommentPage(Long boardId, Long cursor, int size, Member member) {
+		List<Comment> comments = commentRepository.findPage(boardId, cursor == null ? 0L : cursor, Limit.of(size + 1));
+		return CommentPageResponseDto.of(comments, size, member);
+	}
+
 	@Transactional
 	public void removeComment(Long boardId, Long commentId, Member member) {
 		if (!commentRepository.existsByCommentIdAndMember(commentId, member)) {
@@ -50,6 +85,9 @@ public class CommentService {
 		}
 
 		commentRepository.delete(comment);
+		if (boardRepository.decreaseCommentCnt(boardId) > 0) {
+			hotBoardRepository.updateCommentCnt(boardId, -1);
+		}
 	}
 
 	@Transactional
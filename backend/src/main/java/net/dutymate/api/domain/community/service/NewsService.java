@@ -1,14 +1,15 @@
 package net.dutymate.api.domain.community.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import net.dutymate.api.domain.community.collections.News;
 import net.dutymate.api.domain.community.dto.GptApiResponseDto;
@@ -19,13 +20,43 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
-
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * 최신 뉴스 요약
+ * 조회는 항상 메모리에 캐시된 요약(설명 길이 정리 완료)을 반환한다.
+ * 캐시가 없거나 오래되었으면 기존 값을 그대로 반환하면서 백그라운드에서 저장된 최신 요약을 다시 읽는다.
+ * 외부 API 호출은 저장된 요약이 하나도 없을 때만 하고, 오래된 요약의 갱신은 스케줄러(ShedLock)에 맡긴다.
+ * 다시 읽어도 최신 요약이 없으면 다음 시도까지 간격을 늘린다 (1분부터 최대 30분).
+ * 다른 서버 인스턴스가 갱신한 요약은 주기적으로 MongoDB에서 다시 읽어 반영한다. (BatchScheduler.loadLatestNews)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsService {
 
+	private static final int DESCRIPTION_MAX_LENGTH = 57;
+	// 갱신 스케줄러(6시, 14시, 21시)의 최대 간격 9시간 + 여유
+	private static final Duration STALE_AFTER = Duration.ofHours(10);
+	private static final Duration NEWS_API_TIMEOUT = Duration.ofSeconds(5);
+	private static final Duration OPENAI_TIMEOUT = Duration.ofSeconds(60);
+	private static final Duration REFRESH_TIMEOUT = Duration.ofMinutes(3);
+	private static final Duration RETRY_MIN_INTERVAL = Duration.ofMinutes(1);
+	private static final Duration RETRY_MAX_INTERVAL = Duration.ofMinutes(30);
+	private static final Retry RETRY_BACKOFF = Retry.backoff(2, Duration.ofSeconds(1))
+		.filter(e -> !(e instanceof WebClientResponseException responseException)
+			|| responseException.getStatusCode().is5xxServerError());
+
 	private final NewsRepository newsRepository;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final WebClient webClient;
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+	private volatile NewsDigest digest;
+	private volatile LocalDateTime nextAttemptAt = LocalDateTime.MIN;
+	private int failedAttempts; // refreshing을 선점한 스레드만 변경
 
 	@Value("${naver.client.id}")
 	private String naverClientId;
@@ -40,67 +71,122 @@ public class NewsService {
 	@Value("${openai.secret-key}")
 	private String openaiSecretKey;
 
-	public List<GptApiResponseDto> getNews() throws JsonProcessingException {
-		if (newsRepository.count() == 0) {
-			refreshRecentNews();
+	// 공통 설정(코덱, 관측)이 적용된 WebClient.Builder 사용
+	public NewsService(NewsRepository newsRepository, WebClient.Builder webClientBuilder) {
+		this.newsRepository = newsRepository;
+		this.webClient = webClientBuilder.build();
+	}
+
+	public List<GptApiResponseDto> getNews() {
+		NewsDigest current = digest;
+		if ((current == null || current.isStale()) && !LocalDateTime.now().isBefore(nextAttemptAt)) {
+			refreshInBackground();
 		}
-		List<GptApiResponseDto> newsList = newsRepository.findFirstByOrderByCreatedAtDesc().getNewsList();
-		newsList.forEach(o -> {
-			String description = o.getDescription();
-			if (description != null && description.length() > 57) {
-				o.setDescription(description.substring(0, 57) + "...");
-			}
-		});
-		return newsList;
+		return current == null ? List.of() : current.newsList();
 	}
 
-	public void refreshRecentNews() throws JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		List<GptApiResponseDto> newsList = mapper.readValue(getChatGptResponse(generatePrompt()),
-			new TypeReference<>() {
-			});
-		newsRepository.save(News.builder()
-			.newsList(newsList)
-			.createdAt(LocalDateTime.now())
-			.build()
-		);
+	/**
+	 * 뉴스 요약 갱신 (스케줄러)
+	 * 외부 API 호출 후 저장까지 기다린다.
+	 */
+	public void refreshRecentNews() {
+		fetchNews().block();
 	}
 
-	private NewsApiResponseDto requestNewsApi() {
+	// 저장된 최신 요약을 캐시에 반영 (서버 시작 직후 및 다른 인스턴스의 갱신 반영)
+	public void loadLatestNews() {
+		News news = newsRepository.findFirstByOrderByCreatedAtDesc();
+		if (news != null) {
+			cache(news);
+		}
+	}
+
+	// 요청 스레드를 막지 않고 갱신 (이미 갱신 중이면 무시)
+	private void refreshInBackground() {
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		Mono.fromRunnable(this::loadLatestNews)
+			.subscribeOn(Schedulers.boundedElastic())
+			.then(Mono.defer(() -> digest != null ? Mono.<Void>empty() : fetchNews()))
+			.doFinally(signal -> {
+				scheduleNextAttempt();
+				refreshing.set(false);
+			})
+			.subscribe(null, e -> log.warn("뉴스 갱신 실패", e));
+	}
+
+	// 최신 요약을 얻었으면 간격 초기화, 아니면 (실패, 아직 오래된 요약) 다음 시도까지 간격을 두 배로
+	private void scheduleNextAttempt() {
+		NewsDigest current = digest;
+		if (current != null && !current.isStale()) {
+			failedAttempts = 0;
+			nextAttemptAt = LocalDateTime.MIN;
+			return;
+		}
+
+		failedAttempts++;
+		Duration interval = RETRY_MIN_INTERVAL.multipliedBy(1L << Math.min(failedAttempts - 1, 5));
+		nextAttemptAt = LocalDateTime.now().plus(interval.compareTo(RETRY_MAX_INTERVAL) < 0
+			? interval : RETRY_MAX_INTERVAL);
+	}
+
+	private Mono<Void> fetchNews() {
+		return requestNewsApi()
+			.map(this::generatePrompt)
+			.flatMap(this::requestChatGpt)
+			.map(this::parseNewsList)
+			.publishOn(Schedulers.boundedElastic())
+			.map(newsList -> newsRepository.save(News.builder()
+				.newsList(newsList)
+				.createdAt(LocalDateTime.now())
+				.build()))
+			.doOnNext(this::cache)
+			.timeout(REFRESH_TIMEOUT)
+			.then();
+	}
+
+	private void cache(News news) {
+		NewsDigest current = digest;
+		if (current != null && !news.getCreatedAt().isAfter(current.createdAt())) {
+			return;
+		}
+		List<GptApiResponseDto> newsList = news.getNewsList().stream().map(this::truncate).toList();
+		digest = new NewsDigest(newsList, news.getCreatedAt());
+	}
+
+	private GptApiResponseDto truncate(GptApiResponseDto news) {
+		String description = news.getDescription();
+		if (description != null && description.length() > DESCRIPTION_MAX_LENGTH) {
+			news.setDescription(description.substring(0, DESCRIPTION_MAX_LENGTH) + "...");
+		}
+		return news;
+	}
+
+	private List<GptApiResponseDto> parseNewsList(String content) {
 		try {
-			// 첫 번째 시도
-			return WebClient.create().get()
-				.uri(naverNewsUri)
-				.header("X-Naver-Client-Id", naverClientId)
-				.header("X-Naver-Client-Secret", naverClientSecret)
-				.retrieve()
-				.bodyToMono(NewsApiResponseDto.class)
-				.block();
-		} catch (Exception e) {
-			// 실패 시 1초 대기 후 한 번 더 시도
-			try {
-				Thread.sleep(1000); // 1000ms 지연
-			} catch (InterruptedException ie) {
-				Thread.currentThread().interrupt(); // 인터럽트 처리
-				throw new RuntimeException("스레드가 인터럽트되었습니다.", ie);
-			}
-
-			try {
-				return WebClient.create().get()
-					.uri(naverNewsUri)
-					.header("X-Naver-Client-Id", naverClientId)
-					.header("X-Naver-Client-Secret", naverClientSecret)
-					.retrieve()
-					.bodyToMono(NewsApiResponseDto.class)
-					.block();
-			} catch (Exception second) {
-				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "뉴스 API 요청이 모두 실패했습니다.", second);
-			}
+			return objectMapper.readValue(content, new TypeReference<>() {
+			});
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("뉴스 요약 응답 형식 오류", e);
 		}
 	}
 
-	public String getChatGptResponse(String prompt) {
-		return WebClient.create().post()
+	// 실패 시 1초부터 지수 백오프로 최대 2회 재시도
+	private Mono<NewsApiResponseDto> requestNewsApi() {
+		return webClient.get()
+			.uri(naverNewsUri)
+			.header("X-Naver-Client-Id", naverClientId)
+			.header("X-Naver-Client-Secret", naverClientSecret)
+			.retrieve()
+			.bodyToMono(NewsApiResponseDto.class)
+			.timeout(NEWS_API_TIMEOUT)
+			.retryWhen(RETRY_BACKOFF);
+	}
+
+	private Mono<String> requestChatGpt(String prompt) {
+		return webClient.post()
 			.uri(openaiUri)
 			.header("Authorization", "Bearer " + openaiSecretKey)
 			.header("Content-Type", "application/json")
@@ -111,19 +197,19 @@ public class NewsService {
 			))
 			.retrieve()
 			.bodyToMono(Map.class)
+			.timeout(OPENAI_TIMEOUT)
+			.retryWhen(RETRY_BACKOFF)
 			.map(response -> {
 				List<Map<String, Object>> choices = (List<Map<String, Object>>)response.get("choices");
 				if (choices != null && !choices.isEmpty()) {
 					Map<String, Object> message = (Map<String, Object>)choices.getFirst().get("message");
 					return message.get("content").toString();  // 메시지 내용만 반환
 				}
-				return "No response from ChatGPT.";
-			})
-			.block();
-
+				throw new IllegalStateException("No response from ChatGPT.");
+			});
 	}
 
-	public String generatePrompt() {
+	private String generatePrompt(NewsApiResponseDto newsApiResponseDto) {
 		return """
 			당신에게 뉴스 기사 여러 건이 제공됩니다.
 			이 뉴스들 중에서 간호사 및 의료 정책과 가장 관련 있는 기사 5건을 선별하세요.
@@ -147,6 +233,13 @@ public class NewsService {
 				...
 			]
 			다음은 뉴스 기사 목록입니다:
-			""" + requestNewsApi().toString();
+			""" + newsApiResponseDto.toString();
+	}
+
+	private record NewsDigest(List<GptApiResponseDto> newsList, LocalDateTime createdAt) {
+
+		boolean isStale() {
+			return createdAt.plus(STALE_AFTER).isBefore(LocalDateTime.now());
+		}
 	}
 }
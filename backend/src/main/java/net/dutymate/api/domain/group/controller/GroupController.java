@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.UploadCompleteRequestDto;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.group.dto.GroupCreateRequestDto;
 import net.dutymate.api.domain.group.dto.GroupInviteResponseDto;
@@ -44,6 +46,18 @@ public class GroupController {
 		return ResponseEntity.ok(groupService.uploadGroupImage(multipartFile));
 	}
 
+	@PostMapping("/image/presigned")
+	public ResponseEntity<?> createGroupImageUpload(@Auth Member member,
+		@RequestBody @Valid PresignedUploadRequestDto presignedUploadRequestDto) {
+		return ResponseEntity.ok(groupService.createGroupImageUpload(member, presignedUploadRequestDto));
+	}
+
+	@PostMapping("/image/complete")
+	public ResponseEntity<?> completeGroupImageUpload(@Auth Member member,
+		@RequestBody @Valid UploadCompleteRequestDto uploadCompleteRequestDto) {
+		return ResponseEntity.ok(groupService.completeGroupImageUpload(member, uploadCompleteRequestDto.getKey()));
+	}
+
 	@GetMapping("/{groupId}/random-image")
 	public ResponseEntity<?> getGroupRandomImage(@Auth Member member, @PathVariable Long groupId) {
 		return ResponseEntity.ok(groupService.updateGroupRandomImage(member, groupId));
@@ -21,6 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.PresignedUploadResponseDto;
+import net.dutymate.api.domain.common.service.PresignedUploadService;
 import net.dutymate.api.domain.common.service.S3Service;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.group.GroupMember;
@@ -40,8 +43,8 @@ import net.dutymate.api.domain.group.repository.GroupMemberRepository;
 import net.dutymate.api.domain.group.repository.GroupRepository;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.member.repository.MemberRepository;
-import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
-import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleQueryService;
+import net.dutymate.api.domain.wardschedules.util.MemberShiftRange;
 
 import lombok.RequiredArgsConstructor;
 
@@ -49,12 +52,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GroupService {
 
+	private static final String GROUP_IMAGE_DIR = "group";
+
 	private final GroupRepository groupRepository;
 	private final GroupMemberRepository groupMemberRepository;
-	private final MemberScheduleRepository memberScheduleRepository;
+	private final MemberScheduleQueryService memberScheduleQueryService;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final MemberRepository memberRepository;
 	private final S3Service s3Service;
+	private final PresignedUploadService presignedUploadService;
 
 	@Value("${cloud.aws.region.static}")
 	private String region;
@@ -90,8 +96,18 @@ public class GroupService {
 
 	@Transactional
 	public GroupImgResponseDto uploadGroupImage(MultipartFile multipartFile) {
-		String dirName = "group";
-		String fileUrl = s3Service.uploadImage(dirName, multipartFile);
+		String fileUrl = s3Service.uploadImage(GROUP_IMAGE_DIR, multipartFile);
+		return GroupImgResponseDto.of(fileUrl);
+	}
+
+	// 클라이언트가 S3에 직접 올릴 URL 발급
+	public PresignedUploadResponseDto createGroupImageUpload(Member member,
+		PresignedUploadRequestDto presignedUploadRequestDto) {
+		return presignedUploadService.createUpload(GROUP_IMAGE_DIR, member.getMemberId(), presignedUploadRequestDto);
+	}
+
+	public GroupImgResponseDto completeGroupImageUpload(Member member, String key) {
+		String fileUrl = presignedUploadService.completeUpload(GROUP_IMAGE_DIR, member.getMemberId(), key);
 		return GroupImgResponseDto.of(fileUrl);
 	}
 
@@ -166,29 +182,13 @@ public class GroupService {
 		List<GroupMember> groupMemberList = group.getGroupMemberList();
 		List<Long> memberIdList = groupMemberList.stream().map(gm -> gm.getMember().getMemberId()).toList();
 
-		// 4. MongoDB에서 스케줄 조회 (이전, 현재, 다음 월)
+		// 4. MongoDB에서 스케줄 조회 (이전, 현재, 다음 월을 한 번에 조회)
 		YearMonth prevMonth = yearMonth.prevYearMonth();
 		YearMonth nextMonth = yearMonth.nextYearMonth();
 
-		List<MemberSchedule> prev = memberScheduleRepository.findAllByMemberIdInAndYearAndMonth(memberIdList,
-			prevMonth.year(), prevMonth.month());
-		List<MemberSchedule> curr = memberScheduleRepository.findAllByMemberIdInAndYearAndMonth(memberIdList,
-			yearMonth.year(), yearMonth.month());
-		List<MemberSchedule> next = memberScheduleRepository.findAllByMemberIdInAndYearAndMonth(memberIdList,
-			nextMonth.year(), nextMonth.month());
-
-		List<MemberSchedule> scheduleList = new ArrayList<>();
-		scheduleList.addAll(prev);
-		scheduleList.addAll(curr);
-		scheduleList.addAll(next);
-
-		// 5. 스케줄 Map 생성 (memberId-year-month → schedule)
-		Map<String, MemberSchedule> scheduleMap = scheduleList.stream()
-			.collect(Collectors.toMap(s -> s.getMemberId() + "-" + s.getYear() + "-" + s.getMonth(), s -> s,
-				(existing, replacement) -> existing // 중복 방지
-			));
-
-		// 6. 날짜 리스트 분리
+		MemberShiftRange shiftRange = memberScheduleQueryService.findShifts(memberIdList, prevMonth, nextMonth);
+
+		// 5. 날짜 리스트 분리
 		List<LocalDate> prevDateList = new ArrayList<>();
 		List<LocalDate> currDateList = new ArrayList<>();
 		List<LocalDate> nextDateList = new ArrayList<>();
@@ -204,32 +204,32 @@ public class GroupService {
 			nextDateList.add(nextMonth.atDay(i));
 		}
 
-		// 7. 날짜별 멤버 duty 매핑
+		// 6. 날짜별 멤버 duty 매핑
 		Map<LocalDate, List<GroupDetailResponseDto.MemberDto>> prevMap = mapDateToMembers(prevDateList, groupMemberList,
-			scheduleMap);
+			shiftRange);
 		Map<LocalDate, List<GroupDetailResponseDto.MemberDto>> currMap = mapDateToMembers(currDateList, groupMemberList,
-			scheduleMap);
+			shiftRange);
 		Map<LocalDate, List<GroupDetailResponseDto.MemberDto>> nextMap = mapDateToMembers(nextDateList, groupMemberList,
-			scheduleMap);
+			shiftRange);
 
-		// 8. 정렬 (이름순 or 근무순)
+		// 7. 정렬 (이름순 or 근무순)
 		Comparator<GroupDetailResponseDto.MemberDto> comparator = getComparator(orderBy);
 		prevMap.values().forEach(list -> list.sort(comparator));
 		currMap.values().forEach(list -> list.sort(comparator));
 		nextMap.values().forEach(list -> list.sort(comparator));
 
-		// 9. Map → DTO 변환
+		// 8. Map → DTO 변환
 		List<GroupDetailResponseDto.ShiftDto> prevShiftList = convertToShiftDto(prevMap);
 		List<GroupDetailResponseDto.ShiftDto> currShiftList = convertToShiftDto(currMap);
 		List<GroupDetailResponseDto.ShiftDto> nextShiftList = convertToShiftDto(nextMap);
 
-		// 10. 응답 반환
+		// 9. 응답 반환
 		return GroupDetailResponseDto.of(group, prevShiftList, currShiftList, nextShiftList);
 	}
 
 	// 날짜별 멤버 duty 매핑하기
 	private Map<LocalDate, List<GroupDetailResponseDto.MemberDto>> mapDateToMembers(List<LocalDate> dates,
-		List<GroupMember> groupMemberList, Map<String, MemberSchedule> scheduleMap) {
+		List<GroupMember> groupMemberList, MemberShiftRange shiftRange) {
 		Map<LocalDate, List<GroupDetailResponseDto.MemberDto>> result = new TreeMap<>();
 
 		for (GroupMember gm : groupMemberList) {
@@ -237,20 +237,7 @@ public class GroupService {
 			String name = gm.getMember().getName();
 
 			for (LocalDate date : dates) {
-				YearMonth ym = new YearMonth(date.getYear(), date.getMonthValue());
-				int day = date.getDayOfMonth();
-				String key = new StringBuilder().append(memberId)
-					.append("-")
-					.append(ym.year())
-					.append("-")
-					.append(ym.month())
-					.toString();
-
-				MemberSchedule schedule = scheduleMap.get(key);
-				String shiftStr = (schedule != null && schedule.getShifts() != null) ? schedule.getShifts() :
-					"X".repeat(ym.daysInMonth());
-
-				String duty = (day - 1 < shiftStr.length()) ? String.valueOf(shiftStr.charAt(day - 1)) : "X";
+				String duty = String.valueOf(shiftRange.getShift(memberId, date));
 
 				GroupDetailResponseDto.MemberDto memberDto = GroupDetailResponseDto.MemberDto.builder()
 					.memberId(memberId)
@@ -410,10 +397,9 @@ public class GroupService {
 
 		// memberId -> shift 배열 (31일)
 		Map<Long, String[]> memberShiftMap = new HashMap<>();
-		for (MemberSchedule schedule : memberScheduleRepository.findAllByMemberIdInAndYearAndMonth(
-			groupMeetingRequestDto.getGroupMemberIds(), yearMonth.year(), yearMonth.month())) {
-			String[] shifts = schedule.getShifts().split("");
-			memberShiftMap.put(schedule.getMemberId(), shifts);
+		MemberShiftRange shiftRange = memberScheduleQueryService.findShifts(groupMemberIds, yearMonth, yearMonth);
+		for (Long id : groupMemberIds) {
+			memberShiftMap.put(id, shiftRange.getMonthShifts(id, yearMonth).split(""));
 		}
 
 		int daysInMonth = yearMonth.daysInMonth();
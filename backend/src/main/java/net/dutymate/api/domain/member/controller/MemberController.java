@@ -16,6 +16,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.UploadCompleteRequestDto;
 import net.dutymate.api.domain.member.EmailVerificationResult;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.member.Provider;
@@ -148,6 +150,20 @@ public class MemberController {
 		return ResponseEntity.ok(profileImgResponseDto);
 	}
 
+	@PostMapping("/image/presigned")
+	public ResponseEntity<?> createImageUpload(@Auth Member member,
+		@Valid @RequestBody PresignedUploadRequestDto presignedUploadRequestDto) {
+		return ResponseEntity.ok(memberService.createProfileImgUpload(member, presignedUploadRequestDto));
+	}
+
+	@PostMapping("/image/complete")
+	public ResponseEntity<?> completeImageUpload(@Auth Member member,
+		@Valid @RequestBody UploadCompleteRequestDto uploadCompleteRequestDto) {
+		ProfileImgResponseDto profileImgResponseDto =
+			memberService.completeProfileImgUpload(uploadCompleteRequestDto.getKey(), member);
+		return ResponseEntity.ok(profileImgResponseDto);
+	}
+
 	@DeleteMapping("/image")
 	public ResponseEntity<?> deleteImage(@Auth Member member) {
 		ProfileImgResponseDto profileImgResponseDto = memberService.deleteProfileImg(member);
@@ -43,4 +43,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 		+ "AND m.email NOT LIKE '%dutymate.demo%'")
 	Page<Member> findAllForAdminPage(Pageable pageable);
 
+	// 근무표 조회용 (병동 멤버, 컬러를 함께 조회하여 간호사별 추가 쿼리 방지)
+	@Query("SELECT m FROM Member m "
+		+ "LEFT JOIN FETCH m.wardMember "
+		+ "LEFT JOIN FETCH m.color "
+		+ "WHERE m.memberId IN :memberIds")
+	List<Member> findAllWithWardMemberByMemberIdIn(@Param("memberIds") List<Long> memberIds);
+
 }
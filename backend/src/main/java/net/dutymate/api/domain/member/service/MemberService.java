@@ -25,6 +25,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import net.dutymate.api.domain.color.Color;
 import net.dutymate.api.domain.color.repository.ColorRepository;
+import net.dutymate.api.domain.common.dto.PresignedUploadRequestDto;
+import net.dutymate.api.domain.common.dto.PresignedUploadResponseDto;
+import net.dutymate.api.domain.common.service.PresignedUploadService;
 import net.dutymate.api.domain.common.service.S3Service;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.member.Gender;
@@ -64,9 +67,12 @@ import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
 import net.dutymate.api.domain.wardmember.service.WardMemberService;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleArchiveRepository;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.ScheduleExportService;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
 import net.dutymate.api.domain.wardschedules.util.PreviousScheduleGenerator;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleViewCache;
 import net.dutymate.api.global.auth.jwt.JwtUtil;
 import net.dutymate.api.global.exception.EmailNotVerifiedException;
 
@@ -85,6 +91,7 @@ public class MemberService {
 	private static final String DEMO_HOSPITAL_NAME = "듀티메이트병원";
 	private static final String DEMO_WARD_NAME = "듀티병동";
 	private static final String DEFAULT_PROFILE_IMAGE_NAME = "default_profile.jpg";
+	private static final String PROFILE_IMAGE_DIR = "profile";
 	private static final Integer DEMO_TEMP_NURSE_CNT = 10;
 	private static final Integer DEMO_AUTO_GEN_CNT = 1;
 	private static final Integer DEFAULT_AUTO_GEN_CNT = 100;
@@ -94,6 +101,7 @@ public class MemberService {
 	private final JwtUtil jwtUtil;
 	private final WardMemberRepository wardMemberRepository;
 	private final WardScheduleRepository wardScheduleRepository;
+	private final WardScheduleArchiveRepository wardScheduleArchiveRepository;
 	private final WardMemberService wardMemberService;
 	private final EnterWaitingRepository enterWaitingRepository;
 	private final WardRepository wardRepository;
@@ -104,6 +112,9 @@ public class MemberService {
 	private final ColorRepository colorRepository;
 	private final LoginLogService loginLogService;
 	private final S3Service s3Service;
+	private final PresignedUploadService presignedUploadService;
+	private final WardScheduleViewCache wardScheduleViewCache;
+	private final ScheduleExportService scheduleExportService;
 
 	@Value("${kakao.client.id}")
 	private String kakaoClientId;
@@ -446,6 +457,9 @@ public class MemberService {
 
 		member.editMember(name, nickname, gender, grade);
 		memberRepository.save(member);
+
+		// 이름, 연차가 병동 근무표에 표시되므로 캐시 무효화
+		evictWardScheduleViews(member);
 	}
 
 	public void validateNickname(String nickname) {
@@ -466,17 +480,35 @@ public class MemberService {
 	// 파일 업로드
 	@Transactional
 	public ProfileImgResponseDto uploadProfileImg(MultipartFile multipartFile, Member member) {
-		String dirName = "profile";
-		String fileName = s3Service.extractFileNameFromUrl(member.getProfileImg(), dirName);
 		// 기존에 프로필 이미지가 있으면 삭제 후 업로드
-		if (!fileName.equals(DEFAULT_PROFILE_IMAGE_NAME)) {
-			s3Service.deleteFile(dirName, fileName);
-		}
-		String fileUrl = s3Service.uploadImage(dirName, multipartFile);
+		deleteProfileImgFile(member);
+		String fileUrl = s3Service.uploadImage(PROFILE_IMAGE_DIR, multipartFile);
 		member.setFileUrl(fileUrl);
 		return ProfileImgResponseDto.of(fileUrl);
 	}
 
+	// 클라이언트가 S3에 직접 올릴 URL 발급
+	public PresignedUploadResponseDto createProfileImgUpload(Member member,
+		PresignedUploadRequestDto presignedUploadRequestDto) {
+		return presignedUploadService.createUpload(PROFILE_IMAGE_DIR, member.getMemberId(), presignedUploadRequestDto);
+	}
+
+	// 직접 업로드한 파일을 확인한 뒤 프로필 이미지로 등록
+	@Transactional
+	public ProfileImgResponseDto completeProfileImgUpload(String key, Member member) {
+		String fileUrl = presignedUploadService.completeUpload(PROFILE_IMAGE_DIR, member.getMemberId(), key);
+		deleteProfileImgFile(member);
+		member.setFileUrl(fileUrl);
+		return ProfileImgResponseDto.of(fileUrl);
+	}
+
+	private void deleteProfileImgFile(Member member) {
+		String fileName = s3Service.extractFileNameFromUrl(member.getProfileImg(), PROFILE_IMAGE_DIR);
+		if (!fileName.equals(DEFAULT_PROFILE_IMAGE_NAME)) {
+			s3Service.deleteFile(PROFILE_IMAGE_DIR, fileName);
+		}
+	}
+
 	// 프로필 이미지 삭제 -> 기본 이미지로 변경
 	@Transactional
 	public ProfileImgResponseDto deleteProfileImg(Member member) {
@@ -544,6 +576,7 @@ public class MemberService {
 						}
 					}
 					wardScheduleRepository.deleteByWardId(ward.getWardId());
+					wardScheduleArchiveRepository.deleteByWardId(ward.getWardId());
 					wardRepository.delete(ward);
 				}
 				member.updateRole(null);
@@ -553,6 +586,7 @@ public class MemberService {
 
 			// 병동에 한 명만 남아 있는 경우
 			wardScheduleRepository.deleteByWardId(ward.getWardId()); // mongodb에서 삭제
+			wardScheduleArchiveRepository.deleteByWardId(ward.getWardId());
 			wardRepository.delete(ward); // 해당 병동도 같이 삭제
 			member.updateRole(null);
 			member.clearEnterDate();
@@ -571,6 +605,7 @@ public class MemberService {
 			}
 			memberRepository.delete(member);
 			memberScheduleRepository.deleteByMemberId(member.getMemberId());
+			scheduleExportService.revokeIcsFeed(member.getMemberId());
 			return;
 		}
 
@@ -602,16 +637,20 @@ public class MemberService {
 						memberRepository.delete(wardMember.getMember());
 					}
 					wardScheduleRepository.deleteByWardId(ward.getWardId());
+					wardScheduleArchiveRepository.deleteByWardId(ward.getWardId());
 					wardRepository.delete(ward);
 				}
 				memberRepository.delete(member);
 				memberScheduleRepository.deleteByMemberId(member.getMemberId());
+				scheduleExportService.revokeIcsFeed(member.getMemberId());
 				return;
 			}
 
 			// 병동에 한 명만 남아 있는 경우
 			wardScheduleRepository.deleteByWardId(ward.getWardId()); // mongodb에서 삭제
+			wardScheduleArchiveRepository.deleteByWardId(ward.getWardId());
 			memberScheduleRepository.deleteByMemberId(member.getMemberId());
+			scheduleExportService.revokeIcsFeed(member.getMemberId());
 			wardRepository.delete(ward); // 해당 병동도 같이 삭제
 			memberRepository.delete(member); // 멤버 자체를 삭제
 		}
@@ -851,7 +890,9 @@ public class MemberService {
 		}
 
 		// 벌크 삭제 처리
+		membersToDelete.forEach(memberToDelete -> scheduleExportService.revokeIcsFeed(memberToDelete.getMemberId()));
 		wardScheduleRepository.deleteByWardIdIn(wardIdsToDelete);
+		wardScheduleArchiveRepository.deleteByWardIdIn(wardIdsToDelete);
 		wardRepository.deleteAllInBatch(wards);
 		memberRepository.deleteAllInBatch(membersToDelete);
 	}
@@ -894,6 +935,14 @@ public class MemberService {
 	public void updateRole(Member member, EditRoleRequestDto editRoleRequestDto) {
 		member.setRole(editRoleRequestDto.getRole());
 		memberRepository.save(member);
+
+		evictWardScheduleViews(member);
+	}
+
+	private void evictWardScheduleViews(Member member) {
+		if (member.getWardMember() != null) {
+			wardScheduleViewCache.evictWard(member.getWardMember().getWard().getWardId());
+		}
 	}
 
 	@Transactional
@@ -12,10 +12,16 @@ import net.dutymate.api.domain.rule.Rule;
 import net.dutymate.api.domain.rule.dto.RuleResponseDto;
 import net.dutymate.api.domain.rule.dto.RuleUpdateRequestDto;
 import net.dutymate.api.domain.wardmember.WardMember;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleViewCache;
+
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class RuleService {
 
+	private final WardScheduleViewCache wardScheduleViewCache;
+
 	@Transactional(readOnly = true)
 	public RuleResponseDto getRule(Member member) {
 
@@ -38,5 +44,8 @@ public class RuleService {
 		}
 
 		rule.update(ruleUpdateRequestDto);
+
+		// 근무표 검사 결과(issues)가 규칙에 따라 달라지므로 캐시 무효화
+		wardScheduleViewCache.evictWard(wardMember.getWard().getWardId());
 	}
 }
@@ -39,13 +39,13 @@ import net.dutymate.api.domain.ward.repository.WardRepository;
 import net.dutymate.api.domain.wardmember.Role;
 import net.dutymate.api.domain.wardmember.WardMember;
 import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
-import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
-import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleProjectionService;
 import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
 import net.dutymate.api.domain.wardschedules.util.ShiftUtil;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleEditor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,11 +57,12 @@ public class WardService {
 	private final WardMemberRepository wardMemberRepository;
 	private final WardScheduleRepository wardScheduleRepository;
 	private final InitialDutyGenerator initialDutyGenerator;
+	private final WardScheduleEditor wardScheduleEditor;
 	private final MemberRepository memberRepository;
 	private final EnterWaitingRepository enterWaitingRepository;
 	private final HospitalRepository hospitalRepository;
 	private final WardScheduleService wardScheduleService;
-	private final MemberScheduleRepository memberScheduleRepository;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
 
 	private final ShiftUtil shiftUtil;
 	private final S3Service s3Service;
@@ -197,23 +198,9 @@ public class WardService {
 		YearMonth nowYearMonth = YearMonth.nowYearMonth();
 		enterMember.changeEnterYearMonth(nowYearMonth);
 
-		List<WardSchedule> allWardSchedule = wardScheduleRepository.findAllByWardId(ward.getWardId());
-
-		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
-		for (WardSchedule wardSchedule : allWardSchedule) {
-			YearMonth wardScheduleYearMonth = new YearMonth(wardSchedule.getYear(), wardSchedule.getMonth());
-			// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 (덮어쓰기)
-			if (wardScheduleYearMonth.isSameOrAfter(nowYearMonth)) {
-				MemberSchedule memberSchedule
-					= wardScheduleService.getOrCreateMemberSchedule(enterMember.getMemberId(), wardScheduleYearMonth);
-				String updatedShifts = wardScheduleService.getShiftsInWard(enterMember, wardSchedule,
-					wardScheduleYearMonth.daysInMonth());
-				memberSchedule.setShifts(updatedShifts);
-				memberSchedulesToSave.add(memberSchedule);
-			}
-		}
-		memberScheduleRepository.saveAll(memberSchedulesToSave);
-
+		// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 요청 (입장 시 이번달, 다음달 병동 스케줄에 추가됨)
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), nowYearMonth);
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), nowYearMonth.nextYearMonth());
 	}
 
 	@Transactional
@@ -258,35 +245,32 @@ public class WardService {
 		enterMember.changeEnterYearMonth(nowYearMonth);
 
 		// ===== 현재 달 병동 스케줄을 선택한 shifts로 업데이트 START =====
-		WardSchedule currWardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), nowYearMonth.year(), nowYearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄을 찾을 수 없습니다."));
-
-		WardSchedule.Duty currDuty = currWardSchedule.getDuties().get(currWardSchedule.getNowIdx());
-		for (WardSchedule.NurseShift nurseShift : currDuty.getDuty()) {
-			// 여기서 연동할 임시 멤버 ID 찾고 shifts 업데이트
-			if (nurseShift.getMemberId().equals(linkedTempMember.getMemberId())) {
-				nurseShift.changeShifts(enterAcceptRequestDto.getAppliedShifts());
-				break;
+		wardScheduleEditor.update(ward.getWardId(), nowYearMonth, currWardSchedule -> {
+			WardSchedule.Duty currDuty = currWardSchedule.getDuties().get(currWardSchedule.getNowIdx());
+			for (WardSchedule.NurseShift nurseShift : currDuty.getDuty()) {
+				// 여기서 연동할 임시 멤버 ID 찾고 shifts 업데이트
+				if (nurseShift.getMemberId().equals(linkedTempMember.getMemberId())) {
+					nurseShift.changeShifts(enterAcceptRequestDto.getAppliedShifts());
+					break;
+				}
 			}
-		}
-
-		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
-			.idx(0)
-			.duty(new ArrayList<>(currDuty.getDuty()))
-			.history(initialDutyGenerator.createInitialHistory())
-			.build();
 
-		currWardSchedule = WardSchedule.builder()
-			.id(currWardSchedule.getId())
-			.wardId(ward.getWardId())
-			.year(currWardSchedule.getYear())
-			.month(currWardSchedule.getMonth())
-			.nowIdx(0)
-			.duties(new ArrayList<>(List.of(newDuty)))
-			.build();
+			WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
+				.idx(0)
+				.duty(new ArrayList<>(currDuty.getDuty()))
+				.history(initialDutyGenerator.createInitialHistory())
+				.build();
 
-		wardScheduleRepository.save(currWardSchedule);
+			return WardSchedule.builder()
+				.id(currWardSchedule.getId())
+				.version(currWardSchedule.getVersion())
+				.wardId(ward.getWardId())
+				.year(currWardSchedule.getYear())
+				.month(currWardSchedule.getMonth())
+				.nowIdx(0)
+				.duties(new ArrayList<>(List.of(newDuty)))
+				.build();
+		}).orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄을 찾을 수 없습니다."));
 		// ===== 현재 달 병동 스케줄을 선택한 듀티로 업데이트 END =====
 
 		// 병동 스케줄 순회
@@ -295,34 +279,34 @@ public class WardService {
 		// 1. 현재 연월 wardSchedule 조회 후
 		// 2. 선택된 듀티표로 nurseShift 업데이트, history 초기화(개인 듀티 선택 시)
 
-		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
 		for (WardSchedule wardSchedule : allWardSchedule) {
-			// 1. 병동 스케줄에서 memberId 변경
-			for (WardSchedule.Duty duty : wardSchedule.getDuties()) {
-				for (WardSchedule.NurseShift nurseShift : duty.getDuty()) {
-					if (Objects.equals(nurseShift.getMemberId(), linkedTempMember.getMemberId())) {
-						nurseShift.setMemberId(enterMemberId);
+			// 1. 병동 스케줄에서 memberId 변경 (충돌 시 최신 스케줄에 다시 변경)
+			wardScheduleEditor.update(wardSchedule, schedule -> {
+				for (WardSchedule.Duty duty : schedule.getDuties()) {
+					for (WardSchedule.NurseShift nurseShift : duty.getDuty()) {
+						if (Objects.equals(nurseShift.getMemberId(), linkedTempMember.getMemberId())) {
+							nurseShift.setMemberId(enterMemberId);
+						}
+					}
+					if (Objects.equals(duty.getHistory().getMemberId(), linkedTempMember.getMemberId())) {
+						duty.getHistory().setMemberId(enterMemberId);
+					}
+					if (duty.getHistory().getCells() != null) {
+						duty.getHistory().getCells().stream()
+							.filter(cell -> Objects.equals(cell.getMemberId(), linkedTempMember.getMemberId()))
+							.forEach(cell -> cell.setMemberId(enterMemberId));
 					}
 				}
-				if (Objects.equals(duty.getHistory().getMemberId(), linkedTempMember.getMemberId())) {
-					duty.getHistory().setMemberId(enterMemberId);
-				}
-			}
-
-			YearMonth wardScheduleYearMonth = wardSchedule.getYearMonth();
+				return schedule;
+			});
+		}
 
-			// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 (덮어쓰기)
-			if (wardScheduleYearMonth.isSameOrAfter(nowYearMonth)) {
-				MemberSchedule memberSchedule
-					= wardScheduleService.getOrCreateMemberSchedule(enterMember.getMemberId(), wardScheduleYearMonth);
-				String updatedShifts = wardScheduleService.getShiftsInWard(enterMember, wardSchedule,
-					wardScheduleYearMonth.daysInMonth());
-				memberSchedule.setShifts(updatedShifts);
-				memberSchedulesToSave.add(memberSchedule);
+		// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 요청 (덮어쓰기)
+		for (WardSchedule wardSchedule : allWardSchedule) {
+			if (wardSchedule.getYearMonth().isSameOrAfter(nowYearMonth)) {
+				memberScheduleProjectionService.requestProjection(ward.getWardId(), wardSchedule.getYearMonth());
 			}
 		}
-		wardScheduleRepository.saveAll(allWardSchedule);
-		memberScheduleRepository.saveAll(memberSchedulesToSave);
 
 		// 병동 입장을 승인 or 거절하는 경우 모두 입장 대기 테이블에서 삭제시켜야 함
 		enterWaitingRepository.removeByMemberAndWard(enterMember, ward);
@@ -353,30 +337,14 @@ public class WardService {
 		ward.addWardMember(newWardMember);
 
 		// 4. 병동 Id로 MongoDB에 추가된 현재달과 다음달 듀티 확인
-		// 4-1. 이번달 듀티
 		YearMonth yearMonth = YearMonth.nowYearMonth();
-
-		WardSchedule currMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			ward.getWardId(), yearMonth.year(), yearMonth.month()).orElse(null);
-
-		// 4-2. 다음달 듀티
 		YearMonth nextYearMonth = yearMonth.nextYearMonth();
 
-		WardSchedule nextMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			ward.getWardId(), nextYearMonth.year(), nextYearMonth.month()).orElse(null);
-
-		// 5. 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기
-		if (currMonthSchedule != null) {
-			currMonthSchedule = initialDutyGenerator
-				.updateDutyWithNewMember(currMonthSchedule, newWardMember, appliedShifts);
-			wardScheduleRepository.save(currMonthSchedule);
-		}
-
-		if (nextMonthSchedule != null) {
-			nextMonthSchedule = initialDutyGenerator
-				.updateDutyWithNewMember(nextMonthSchedule, newWardMember, nextYearMonth.initializeShifts());
-			wardScheduleRepository.save(nextMonthSchedule);
-		}
+		// 5. 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기 (충돌 시 최신 스케줄에 다시 추가)
+		wardScheduleEditor.update(ward.getWardId(), yearMonth, currMonthSchedule -> initialDutyGenerator
+			.updateDutyWithNewMember(currMonthSchedule, newWardMember, appliedShifts));
+		wardScheduleEditor.update(ward.getWardId(), nextYearMonth, nextMonthSchedule -> initialDutyGenerator
+			.updateDutyWithNewMember(nextMonthSchedule, newWardMember, nextYearMonth.initializeShifts()));
 	}
 
 	@Transactional
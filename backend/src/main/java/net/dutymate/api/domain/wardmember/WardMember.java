@@ -8,10 +8,12 @@ import org.hibernate.annotations.OnDeleteAction;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.request.Request;
 import net.dutymate.api.domain.ward.Ward;
+import net.dutymate.api.global.auth.principal.AuthPrincipalEvictListener;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -30,6 +32,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(AuthPrincipalEvictListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -3,6 +3,8 @@ package net.dutymate.api.domain.wardmember.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import net.dutymate.api.domain.member.Member;
@@ -18,6 +20,11 @@ public interface WardMemberRepository extends JpaRepository<WardMember, Long> {
 
 	List<WardMember> findAllByWard(Ward ward);
 
-	List<WardMember> findByMember_MemberIdIn(List<Long> memberIds);
+	// 근무표 조회용 (회원, 컬러를 함께 조회하여 간호사별 추가 쿼리 방지)
+	@Query("SELECT wm FROM WardMember wm "
+		+ "JOIN FETCH wm.member m "
+		+ "LEFT JOIN FETCH m.color "
+		+ "WHERE m.memberId IN :memberIds")
+	List<WardMember> findAllWithMemberByMemberIdIn(@Param("memberIds") List<Long> memberIds);
 
 }
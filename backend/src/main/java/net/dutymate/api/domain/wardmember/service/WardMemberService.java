@@ -19,6 +19,8 @@ import net.dutymate.api.domain.wardmember.dto.NurseInfoRequestDto;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleEditor;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleViewCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +31,8 @@ public class WardMemberService {
 	private final MemberRepository memberRepository;
 	private final WardScheduleRepository wardScheduleRepository;
 	private final InitialDutyGenerator initialDutyGenerator;
+	private final WardScheduleEditor wardScheduleEditor;
+	private final WardScheduleViewCache wardScheduleViewCache;
 
 	@Transactional
 	public void updateWardMember(Long memberId, NurseInfoRequestDto nurseInfoRequestDto, Member authMember) {
@@ -52,6 +56,9 @@ public class WardMemberService {
 			nurseInfoRequestDto.getRole(),
 			nurseInfoRequestDto.getWorkIntensity()
 		);
+
+		// 근무 유형, 역할이 병동 근무표에 표시되므로 캐시 무효화
+		wardScheduleViewCache.evictWard(member.getWardMember().getWard().getWardId());
 	}
 
 	@Transactional
@@ -96,31 +103,34 @@ public class WardMemberService {
 				.findByWardIdAndYearAndMonth(ward.getWardId(), nextYearMonth.year(), nextYearMonth.month())
 				.ifPresent(nextMonthSchedule -> deleteWardMemberDuty(nextMonthSchedule, member));
 
+			// 지난 달 근무표에는 탈퇴회원으로 표시되므로 캐시 무효화
+			wardScheduleViewCache.evictWard(ward.getWardId());
 		}
 	}
 
 	public void deleteWardMemberDuty(WardSchedule existingSchedule, Member member) {
-
-		// 마지막 nowIdx가 가리키는 Duty 가져오기
-		WardSchedule.Duty currDuty = existingSchedule.getDuties().get(existingSchedule.getNowIdx());
-
-		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
-			.idx(0)
-			.duty(new ArrayList<>(currDuty.getDuty()))
-			.history(initialDutyGenerator.createInitialHistory())
-			.build();
-
-		newDuty.getDuty().removeIf(nurseShift -> nurseShift.getMemberId().equals(member.getMemberId()));
-
-		WardSchedule deletedSchedule = WardSchedule.builder()
-			.id(existingSchedule.getId())
-			.wardId(existingSchedule.getWardId())
-			.year(existingSchedule.getYear())
-			.month(existingSchedule.getMonth())
-			.duties(new ArrayList<>(List.of(newDuty))) // 기존 duties 초기화 시키고, 나간 멤버가 삭제된 duty 하나만 남기기
-			.build();
-
-		wardScheduleRepository.save(deletedSchedule);
+		// 충돌 시 최신 스케줄에서 다시 삭제
+		wardScheduleEditor.update(existingSchedule, schedule -> {
+			// 마지막 nowIdx가 가리키는 Duty 가져오기
+			WardSchedule.Duty currDuty = schedule.getDuties().get(schedule.getNowIdx());
+
+			WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
+				.idx(0)
+				.duty(new ArrayList<>(currDuty.getDuty()))
+				.history(initialDutyGenerator.createInitialHistory())
+				.build();
+
+			newDuty.getDuty().removeIf(nurseShift -> nurseShift.getMemberId().equals(member.getMemberId()));
+
+			return WardSchedule.builder()
+				.id(schedule.getId())
+				.version(schedule.getVersion())
+				.wardId(schedule.getWardId())
+				.year(schedule.getYear())
+				.month(schedule.getMonth())
+				.duties(new ArrayList<>(List.of(newDuty))) // 기존 duties 초기화 시키고, 나간 멤버가 삭제된 duty 하나만 남기기
+				.build();
+		});
 	}
 
 	/**
@@ -1,10 +1,13 @@
 package net.dutymate.api.domain.wardschedules.collections;
 
+import org.springframework.data.convert.ValueConverter;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import net.dutymate.api.domain.wardschedules.util.ShiftsValueConverter;
+
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -33,5 +36,6 @@ public class MemberSchedule {
 	private int month;
 
 	@Setter
+	@ValueConverter(ShiftsValueConverter.class)
 	private String shifts;
 }
@@ -0,0 +1,45 @@
+package net.dutymate.api.domain.wardschedules.collections;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 병동 스케줄 -> 개인 스케줄 연동 대기열
+ * 병동/연월 단위로 하나만 유지되며, 같은 병동/연월의 연동 요청은 하나로 합쳐진다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Document(collection = "member_schedule_outbox")
+@CompoundIndexes({
+	@CompoundIndex(name = "ward_year_month_idx", def = "{'ward_id' : 1, 'year' : 1, 'month' : 1}", unique = true)
+})
+public class MemberScheduleOutbox {
+
+	@Id
+	private String id;
+
+	@Field("ward_id")
+	private Long wardId;
+	private int year;
+	private int month;
+
+	// 마지막 연동 요청 식별자 (처리 도중 새 요청이 들어왔는지 확인하는 용도)
+	@Field("request_id")
+	private String requestId;
+
+	@Field("requested_at")
+	private LocalDateTime requestedAt;
+}
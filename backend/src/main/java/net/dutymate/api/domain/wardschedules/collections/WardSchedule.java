@@ -2,12 +2,15 @@ package net.dutymate.api.domain.wardschedules.collections;
 
 import java.util.List;
 
+import org.springframework.data.annotation.Version;
+import org.springframework.data.convert.ValueConverter;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.util.ShiftsValueConverter;
 
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
@@ -47,6 +50,15 @@ public class WardSchedule {
 	@Setter
 	private List<Duty> duties;
 
+	// 수정 이력 (히스토리 압축 후 스냅샷 없이 변경 내역만 보관)
+	@Setter
+	@Field("edit_log")
+	private List<History> editLog;
+
+	// 동시 수정 감지를 위한 낙관적 락 버전
+	@Version
+	private Long version;
+
 	public void setNowIdx(Integer nowIdx) {
 		this.nowIdx = nowIdx;
 	}
@@ -79,6 +91,7 @@ public class WardSchedule {
 		@Setter
 		@Field("member_id")
 		private Long memberId;
+		@ValueConverter(ShiftsValueConverter.class)
 		private String shifts;
 
 		public void changeShifts(String shifts) {
@@ -105,6 +118,22 @@ public class WardSchedule {
 		private Integer modifiedDay;
 		@Field("is_auto_created")
 		private Boolean isAutoCreated;
+
+		// 여러 칸을 한 번에 수정한 경우, 수정된 칸 목록 (한 번에 되돌려지는 단위)
+		private List<Cell> cells;
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	@Builder
+	public static class Cell {
+		@Setter
+		@Field("member_id")
+		private Long memberId;
+		private Integer day;
+		private String before;
+		private String after;
 	}
 
 	public YearMonth getYearMonth() {
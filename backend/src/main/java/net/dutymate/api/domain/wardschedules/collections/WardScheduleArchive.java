@@ -0,0 +1,52 @@
+package net.dutymate.api.domain.wardschedules.collections;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 전 병동 스케줄의 전체 히스토리 보관용
+ * (병동, 연, 월, 압축 전 문서 버전)당 하나 : 압축 재시도 시 같은 보관본을 덮어쓴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Document(collection = "ward_schedule_archives")
+@CompoundIndexes({
+	@CompoundIndex(name = "ward_year_month_idx", def = "{'ward_id' : 1, 'year' : 1, 'month' : 1, 'source_version' : 1}")
+})
+public class WardScheduleArchive {
+
+	@Id
+	private String id;
+
+	@Field("ward_id")
+	private Long wardId;
+	private int year;
+	private int month;
+
+	// 보관 시점 병동 스케줄 문서의 버전
+	@Field("source_version")
+	private Long sourceVersion;
+
+	@Field("now_idx")
+	private int nowIdx;
+
+	// 압축 전 듀티표 리스트 (전체 스냅샷)
+	private List<WardSchedule.Duty> duties;
+
+	@Field("archived_at")
+	private LocalDateTime archivedAt;
+}
@@ -0,0 +1,97 @@
+package net.dutymate.api.domain.wardschedules.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import net.dutymate.api.domain.common.utils.ETagUtil;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.wardschedules.dto.IcsFeedResponseDto;
+import net.dutymate.api.domain.wardschedules.service.ScheduleExportService;
+import net.dutymate.api.domain.wardschedules.util.ExportFormat;
+import net.dutymate.api.global.auth.annotation.Auth;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/duty")
+@RequiredArgsConstructor
+public class ScheduleExportController {
+
+	private final ScheduleExportService scheduleExportService;
+
+	@GetMapping("/export/ward")
+	public ResponseEntity<StreamingResponseBody> exportWardSchedule(
+		@Auth Member member,
+		@RequestParam(required = false) Integer year,
+		@RequestParam(required = false) Integer month,
+		@RequestParam(defaultValue = "csv") String format) {
+		YearMonth yearMonth = new YearMonth(year, month);
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = scheduleExportService.exportWardSchedule(member, yearMonth, exportFormat);
+		return attachment(exportFormat, "ward_duty_" + yearMonth.year() + "_" + yearMonth.month(), body);
+	}
+
+	@GetMapping("/export/my")
+	public ResponseEntity<StreamingResponseBody> exportMemberSchedule(
+		@Auth Member member,
+		@RequestParam(required = false) Integer year,
+		@RequestParam(required = false) Integer month,
+		@RequestParam(defaultValue = "1") Integer months,
+		@RequestParam(defaultValue = "csv") String format) {
+		YearMonth yearMonth = new YearMonth(year, month);
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body =
+			scheduleExportService.exportMemberSchedule(member, yearMonth, months, exportFormat);
+		return attachment(exportFormat, "my_duty_" + yearMonth.year() + "_" + yearMonth.month(), body);
+	}
+
+	@PostMapping("/export/ics-feed")
+	public ResponseEntity<?> createIcsFeed(@Auth Member member) {
+		IcsFeedResponseDto icsFeedResponseDto = scheduleExportService.createIcsFeed(member);
+		return ResponseEntity.ok(icsFeedResponseDto);
+	}
+
+	// 구독 주소 폐기 (다시 발급하면 새 주소)
+	@DeleteMapping("/export/ics-feed")
+	public ResponseEntity<?> revokeIcsFeed(@Auth Member member) {
+		scheduleExportService.revokeIcsFeed(member.getMemberId());
+		return ResponseEntity.ok().build();
+	}
+
+	// 캘린더 앱 구독 주소 (토큰으로 인증)
+	@GetMapping("/ics/{token}")
+	public ResponseEntity<StreamingResponseBody> getIcsFeed(@PathVariable String token, WebRequest webRequest) {
+		Long memberId = scheduleExportService.findIcsFeedMemberId(token);
+		ResponseEntity<StreamingResponseBody> response = ETagUtil.conditionalGet(webRequest,
+			scheduleExportService.getIcsFeedETag(memberId), () -> scheduleExportService.exportIcsFeed(memberId));
+		return ResponseEntity.status(response.getStatusCode())
+			.headers(response.getHeaders())
+			.contentType(MediaType.parseMediaType(ExportFormat.ICS.getContentType()))
+			.body(response.getBody());
+	}
+
+	private ResponseEntity<StreamingResponseBody> attachment(ExportFormat format, String fileName,
+		StreamingResponseBody body) {
+		ContentDisposition contentDisposition = ContentDisposition.attachment()
+			.filename(fileName + "." + format.getExtension(), StandardCharsets.UTF_8)
+			.build();
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+			.contentType(MediaType.parseMediaType(format.getContentType()))
+			.body(body);
+	}
+}
@@ -2,6 +2,8 @@ package net.dutymate.api.domain.wardschedules.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,19 +12,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import net.dutymate.api.domain.common.utils.ETagUtil;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.member.Member;
-import net.dutymate.api.domain.wardschedules.dto.AllWardDutyResponseDto;
+import net.dutymate.api.domain.wardschedules.dto.BulkEditDutyRequestDto;
 import net.dutymate.api.domain.wardschedules.dto.EditDutyRequestDto;
 import net.dutymate.api.domain.wardschedules.dto.EditMemberDutyRequestDto;
-import net.dutymate.api.domain.wardschedules.dto.MyDutyResponseDto;
 import net.dutymate.api.domain.wardschedules.dto.NurseOrderRequestDto;
 import net.dutymate.api.domain.wardschedules.dto.TodayDutyResponseDto;
 import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+import net.dutymate.api.domain.wardschedules.service.WardSchedulePushService;
 import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
 import net.dutymate.api.global.auth.annotation.Auth;
+import net.dutymate.api.global.auth.principal.AuthPrincipal;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -31,16 +38,21 @@ import lombok.RequiredArgsConstructor;
 public class WardScheduleController {
 
 	private final WardScheduleService wardScheduleService;
+	private final WardSchedulePushService wardSchedulePushService;
 
 	@GetMapping
 	public ResponseEntity<?> getWardSchedule(
 		@Auth Member member,
+		@Auth AuthPrincipal principal,
 		@RequestParam(required = false) Integer year,
 		@RequestParam(required = false) Integer month,
-		@RequestParam(required = false) Integer history) {
-		WardScheduleResponseDto wardScheduleResponseDto =
-			wardScheduleService.getWardSchedule(member, new YearMonth(year, month), history);
-		return ResponseEntity.ok(wardScheduleResponseDto);
+		@RequestParam(required = false) Integer history,
+		WebRequest webRequest) {
+		YearMonth yearMonth = new YearMonth(year, month);
+		// 히스토리 이동은 근무표 상태를 바꾸므로 조건부 조회 X
+		String eTag = history == null ? wardScheduleService.getWardScheduleETag(principal, yearMonth) : null;
+		return ETagUtil.conditionalGet(webRequest, eTag,
+			() -> wardScheduleService.getWardSchedule(member, yearMonth, history));
 	}
 
 	@PutMapping
@@ -53,14 +65,27 @@ public class WardScheduleController {
 		return ResponseEntity.ok(wardScheduleResponseDto);
 	}
 
+	@PutMapping("/bulk")
+	public ResponseEntity<?> editWardScheduleBulk(
+		@Auth Member member,
+		@Valid @RequestBody BulkEditDutyRequestDto bulkEditDutyRequestDto
+	) {
+		WardScheduleResponseDto wardScheduleResponseDto =
+			wardScheduleService.editWardScheduleBulk(member, bulkEditDutyRequestDto);
+		return ResponseEntity.ok(wardScheduleResponseDto);
+	}
+
 	@GetMapping("/my")
 	public ResponseEntity<?> getMyDuty(
 		@Auth Member member,
+		@Auth AuthPrincipal principal,
 		@RequestParam(required = false) Integer year,
-		@RequestParam(required = false) Integer month
+		@RequestParam(required = false) Integer month,
+		WebRequest webRequest
 	) {
-		MyDutyResponseDto myDutyResponseDto = wardScheduleService.getMyDuty(member, new YearMonth(year, month));
-		return ResponseEntity.ok(myDutyResponseDto);
+		YearMonth yearMonth = new YearMonth(year, month);
+		return ETagUtil.conditionalGet(webRequest, wardScheduleService.getMyDutyETag(principal, yearMonth),
+			() -> wardScheduleService.getMyDuty(member, yearMonth));
 	}
 
 	@GetMapping("/my/date")
@@ -75,11 +100,22 @@ public class WardScheduleController {
 	}
 
 	@GetMapping("/ward")
-	public ResponseEntity<?> getAllWardDuty(@Auth Member member,
+	public ResponseEntity<?> getAllWardDuty(@Auth Member member, @Auth AuthPrincipal principal,
 		@RequestParam(required = false) Integer year,
-		@RequestParam(required = false) Integer month) {
-		AllWardDutyResponseDto allWardDutyResponseDto = wardScheduleService.getAllWardDuty(member, year, month);
-		return ResponseEntity.ok(allWardDutyResponseDto);
+		@RequestParam(required = false) Integer month,
+		WebRequest webRequest) {
+		String eTag = wardScheduleService.getAllWardDutyETag(principal, new YearMonth(year, month));
+		return ETagUtil.conditionalGet(webRequest, eTag,
+			() -> wardScheduleService.getAllWardDuty(member, year, month));
+	}
+
+	// 프록시(nginx)가 이벤트를 모아 보내지 않도록 버퍼링 해제
+	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> subscribeWardSchedule(@Auth Member member) {
+		return ResponseEntity.ok()
+			.header("X-Accel-Buffering", "no")
+			.cacheControl(CacheControl.noCache())
+			.body(wardSchedulePushService.subscribe(member));
 	}
 
 	@PostMapping("/reset")
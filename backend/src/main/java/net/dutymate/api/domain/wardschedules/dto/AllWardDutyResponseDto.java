@@ -5,11 +5,15 @@ import java.util.List;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.wardmember.Role;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AllWardDutyResponseDto {
 
 	private String id;
@@ -28,6 +32,8 @@ public class AllWardDutyResponseDto {
 
 	@Data
 	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
 	public static class AllNurseShift {
 		private Long memberId;
 		private String name;
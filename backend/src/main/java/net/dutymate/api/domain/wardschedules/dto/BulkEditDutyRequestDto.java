@@ -0,0 +1,34 @@
+package net.dutymate.api.domain.wardschedules.dto;
+
+import java.util.List;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class BulkEditDutyRequestDto {
+
+	private Integer year;
+	private Integer month;
+
+	@Valid
+	@NotEmpty(message = "수정할 근무가 없습니다.")
+	private List<Cell> cells;
+
+	@Data
+	public static class Cell {
+		@NotNull(message = "간호사를 선택해주세요.")
+		private Long memberId;
+		private String name;
+		@NotNull(message = "날짜를 선택해주세요.")
+		private Integer day;
+		@NotNull(message = "기존 근무를 선택해주세요.")
+		private Shift before;
+		@NotNull(message = "변경할 근무를 선택해주세요.")
+		private Shift after;
+	}
+}
@@ -0,0 +1,68 @@
+package net.dutymate.api.domain.wardschedules.dto;
+
+import java.util.List;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleEditor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 병동 근무표 변경 알림 (SSE 구독자에게 전달)
+ * CELL: cells만 반영하면 최신 상태, RELOAD: 근무표 전체를 다시 조회해야 함
+ * version이 건너뛰어 들어오면 놓친 변경이 있으므로 다시 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DutyChangeEventDto {
+
+	private Long wardId;
+	private Integer year;
+	private Integer month;
+	private Long version;
+	private ChangeType type;
+	private List<Cell> cells;
+
+	public static DutyChangeEventDto ofCells(WardSchedule wardSchedule, List<WardScheduleEditor.CellEdit> cellEdits) {
+		return DutyChangeEventDto.builder()
+			.wardId(wardSchedule.getWardId())
+			.year(wardSchedule.getYear())
+			.month(wardSchedule.getMonth())
+			.version(wardSchedule.getVersion())
+			.type(ChangeType.CELL)
+			.cells(cellEdits.stream()
+				.map(cellEdit -> new Cell(cellEdit.memberId(), cellEdit.day(), cellEdit.after()))
+				.toList())
+			.build();
+	}
+
+	public static DutyChangeEventDto ofReload(Long wardId, Integer year, Integer month, Long version) {
+		return DutyChangeEventDto.builder()
+			.wardId(wardId)
+			.year(year)
+			.month(month)
+			.version(version)
+			.type(ChangeType.RELOAD)
+			.build();
+	}
+
+	public enum ChangeType {
+		CELL, RELOAD
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Cell {
+
+		private Long memberId;
+		private Integer day;
+		private Shift shift;
+	}
+}
@@ -0,0 +1,4 @@
+package net.dutymate.api.domain.wardschedules.dto;
+
+public record IcsFeedResponseDto(String feedPath) {
+}
@@ -9,11 +9,15 @@ import net.dutymate.api.domain.request.RequestStatus;
 import net.dutymate.api.domain.wardmember.Role;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class WardScheduleResponseDto {
 
 	private String id;
@@ -46,6 +50,8 @@ public class WardScheduleResponseDto {
 
 	@Data
 	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
 	public static class NurseShifts {
 
 		private Long memberId;
@@ -66,6 +72,8 @@ public class WardScheduleResponseDto {
 
 	@Data
 	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
 	public static class Issue {
 
 		private Long memberId;
@@ -79,6 +87,8 @@ public class WardScheduleResponseDto {
 
 	@Data
 	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
 	public static class History {
 
 		private Integer idx; // history가 속해 있는 idx 값
@@ -88,10 +98,13 @@ public class WardScheduleResponseDto {
 		private Shift after;
 		private Integer modifiedDay;
 		private Boolean isAutoCreated;
+		private Integer cellCnt; // 여러 칸을 한 번에 수정한 경우 수정된 칸 수
 	}
 
 	@Data
 	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
 	public static class RequestDto {
 
 		private Long requestId;
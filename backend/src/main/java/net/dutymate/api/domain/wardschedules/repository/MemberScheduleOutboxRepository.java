@@ -0,0 +1,13 @@
+package net.dutymate.api.domain.wardschedules.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import net.dutymate.api.domain.wardschedules.collections.MemberScheduleOutbox;
+
+public interface MemberScheduleOutboxRepository extends MongoRepository<MemberScheduleOutbox, String> {
+
+	List<MemberScheduleOutbox> findTop100ByRequestedAtBeforeOrderByRequestedAtAsc(LocalDateTime requestedAt);
+}
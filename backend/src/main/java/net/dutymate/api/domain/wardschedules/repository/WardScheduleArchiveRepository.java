@@ -0,0 +1,16 @@
+package net.dutymate.api.domain.wardschedules.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import net.dutymate.api.domain.wardschedules.collections.WardScheduleArchive;
+
+public interface WardScheduleArchiveRepository extends MongoRepository<WardScheduleArchive, String> {
+
+	List<WardScheduleArchive> findAllByWardIdAndYearAndMonth(Long wardId, int year, int month);
+
+	void deleteByWardId(Long wardId);
+
+	void deleteByWardIdIn(List<Long> wardIds);
+}
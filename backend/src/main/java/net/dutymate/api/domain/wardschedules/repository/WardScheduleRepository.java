@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 
@@ -16,4 +18,9 @@ public interface WardScheduleRepository extends MongoRepository<WardSchedule, St
 	void deleteByWardId(Long wardId);
 
 	void deleteByWardIdIn(List<Long> wardIds);
+
+	// 히스토리 이동 시 nowIdx만 갱신 (문서 전체를 덮어쓰지 않고, 동시 수정 감지를 위해 버전 증가)
+	@Query("{ '_id' : ?0 }")
+	@Update("{ '$set' : { 'now_idx' : ?1 }, '$inc' : { 'version' : 1 } }")
+	void updateNowIdxById(String id, int nowIdx);
 }
@@ -0,0 +1,166 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
+import net.dutymate.api.domain.wardschedules.collections.MemberScheduleOutbox;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.repository.MemberScheduleOutboxRepository;
+import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병동 스케줄 -> 개인 스케줄 연동 (비동기 프로젝션)
+ * 병동 스케줄이 바뀌면 대기열(outbox)에 병동/연월을 기록하고, 커밋 이후 백그라운드에서 개인 스케줄을 갱신한다.
+ * 처리되지 못한 대기열은 스케줄러가 주기적으로 다시 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberScheduleProjectionService {
+
+	// 비동기 처리 중인 요청과 겹치지 않도록, 일정 시간 이상 남아있는 대기열만 스케줄러가 처리
+	private static final long PENDING_GRACE_SECONDS = 30;
+
+	private final WardScheduleRepository wardScheduleRepository;
+	private final MemberScheduleRepository memberScheduleRepository;
+	private final MemberScheduleOutboxRepository memberScheduleOutboxRepository;
+	private final MemberRepository memberRepository;
+	private final MongoTemplate mongoTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 병동 스케줄 변경 후 개인 스케줄 연동 요청
+	 */
+	public void requestProjection(Long wardId, YearMonth yearMonth) {
+		String requestId = UUID.randomUUID().toString();
+
+		mongoTemplate.upsert(outboxQuery(wardId, yearMonth),
+			new Update().set("request_id", requestId).set("requested_at", LocalDateTime.now()),
+			MemberScheduleOutbox.class);
+
+		eventPublisher.publishEvent(new ProjectionRequestedEvent(wardId, yearMonth, requestId));
+	}
+
+	/**
+	 * 병동의 모든 연월에 대해 개인 스케줄 재구성 요청
+	 */
+	public void rebuild(Long wardId) {
+		Query query = Query.query(Criteria.where("ward_id").is(wardId));
+		query.fields().include("year", "month");
+
+		mongoTemplate.find(query, WardSchedule.class)
+			.forEach(wardSchedule -> requestProjection(wardId, wardSchedule.getYearMonth()));
+	}
+
+	// 요청한 트랜잭션이 커밋된 뒤 백그라운드에서 바로 연동
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectionRequested(ProjectionRequestedEvent event) {
+		try {
+			project(event.wardId(), event.yearMonth(), event.requestId());
+		} catch (Exception e) {
+			// 대기열이 남아있으므로 스케줄러가 다시 처리한다.
+			log.error("[Projection] Failed to project wardId={} yearMonth={}", event.wardId(), event.yearMonth(), e);
+		}
+	}
+
+	/**
+	 * 남아있는 대기열 일괄 처리 (스케줄러에서 호출)
+	 */
+	public void processPending() {
+		List<MemberScheduleOutbox> pending = memberScheduleOutboxRepository
+			.findTop100ByRequestedAtBeforeOrderByRequestedAtAsc(LocalDateTime.now().minusSeconds(PENDING_GRACE_SECONDS));
+
+		for (MemberScheduleOutbox outbox : pending) {
+			try {
+				project(outbox.getWardId(), new YearMonth(outbox.getYear(), outbox.getMonth()), outbox.getRequestId());
+			} catch (Exception e) {
+				log.error("[Projection] Failed to project wardId={} year={} month={}",
+					outbox.getWardId(), outbox.getYear(), outbox.getMonth(), e);
+			}
+		}
+	}
+
+	private void project(Long wardId, YearMonth yearMonth, String requestId) {
+		wardScheduleRepository.findByWardIdAndYearAndMonth(wardId, yearMonth.year(), yearMonth.month())
+			.ifPresent(this::projectWardSchedule);
+
+		// 처리 도중 새 요청이 들어오지 않은 경우에만 대기열에서 제거 (새 요청은 다음 처리에서 반영)
+		mongoTemplate.remove(outboxQuery(wardId, yearMonth).addCriteria(Criteria.where("request_id").is(requestId)),
+			MemberScheduleOutbox.class);
+	}
+
+	// 병동 스케줄의 현재 스냅샷을 개인 스케줄에 덮어쓰기 (같은 상태를 여러 번 반영해도 결과가 같음)
+	private void projectWardSchedule(WardSchedule wardSchedule) {
+		YearMonth yearMonth = wardSchedule.getYearMonth();
+
+		Map<Long, String> shiftsByMemberId = wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty()
+			.stream()
+			.collect(Collectors.toMap(WardSchedule.NurseShift::getMemberId, WardSchedule.NurseShift::getShifts,
+				(first, second) -> first));
+
+		// 탈퇴 회원과 입장 연월 이전의 스케줄은 연동하지 않음
+		List<Long> targetMemberIds = memberRepository.findAllById(shiftsByMemberId.keySet()).stream()
+			.filter(member -> yearMonth.isSameOrAfter(member.enterYearMonth()))
+			.map(Member::getMemberId)
+			.toList();
+
+		if (targetMemberIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, MemberSchedule> memberScheduleMap = memberScheduleRepository
+			.findAllByMemberIdInAndYearAndMonth(targetMemberIds, yearMonth.year(), yearMonth.month())
+			.stream()
+			.collect(Collectors.toMap(MemberSchedule::getMemberId, Function.identity(), (first, second) -> first));
+
+		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
+		for (Long memberId : targetMemberIds) {
+			String shifts = shiftsByMemberId.get(memberId);
+			MemberSchedule memberSchedule = memberScheduleMap.get(memberId);
+
+			if (memberSchedule == null) {
+				memberSchedule = WardScheduleService.createBlankMemberSchedule(memberId, yearMonth);
+			} else if (shifts.equals(memberSchedule.getShifts())) {
+				continue;
+			}
+
+			memberSchedule.setShifts(shifts);
+			memberSchedulesToSave.add(memberSchedule);
+		}
+
+		// 개인 듀티를 모아서 한 번에 저장
+		memberScheduleRepository.saveAll(memberSchedulesToSave);
+	}
+
+	private Query outboxQuery(Long wardId, YearMonth yearMonth) {
+		return Query.query(Criteria.where("ward_id").is(wardId)
+			.and("year").is(yearMonth.year())
+			.and("month").is(yearMonth.month()));
+	}
+
+	public record ProjectionRequestedEvent(Long wardId, YearMonth yearMonth, String requestId) {
+	}
+}
@@ -0,0 +1,63 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
+import net.dutymate.api.domain.wardschedules.util.MemberShiftRange;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원(들) × 기간 개인 근무 조회
+ * 기간에 걸친 모든 월을 한 번의 쿼리로 조회하며, 없는 개인 근무표는 만들지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberScheduleQueryService {
+
+	private static final int MAX_RANGE_MONTHS = 36;
+
+	private final MongoTemplate mongoTemplate;
+
+	public MemberShiftRange findShifts(Collection<Long> memberIds, LocalDate from, LocalDate to) {
+		if (from.isAfter(to)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+		}
+		if (memberIds.isEmpty()) {
+			return new MemberShiftRange(List.of());
+		}
+
+		// 기간에 포함된 월 목록 (member_id + year + month 인덱스 사용)
+		List<Criteria> monthCriteria = new ArrayList<>();
+		YearMonth yearMonth = new YearMonth(from.getYear(), from.getMonthValue());
+		YearMonth lastYearMonth = new YearMonth(to.getYear(), to.getMonthValue());
+		while (!lastYearMonth.isBefore(yearMonth)) {
+			monthCriteria.add(Criteria.where("year").is(yearMonth.year()).and("month").is(yearMonth.month()));
+			yearMonth = yearMonth.nextYearMonth();
+		}
+
+		if (monthCriteria.size() > MAX_RANGE_MONTHS) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"조회 기간은 최대 " + MAX_RANGE_MONTHS + "개월까지 가능합니다.");
+		}
+
+		Query query = Query.query(Criteria.where("member_id").in(memberIds)
+			.orOperator(monthCriteria.toArray(new Criteria[0])));
+		return new MemberShiftRange(mongoTemplate.find(query, MemberSchedule.class));
+	}
+
+	public MemberShiftRange findShifts(Collection<Long> memberIds, YearMonth from, YearMonth to) {
+		return findShifts(memberIds, from.atDay(1), to.atEndOfMonth());
+	}
+}
@@ -0,0 +1,208 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.IcsFeedResponseDto;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.util.ExportFormat;
+import net.dutymate.api.domain.wardschedules.util.IcsWriter;
+import net.dutymate.api.domain.wardschedules.util.MemberShiftRange;
+import net.dutymate.api.domain.wardschedules.util.RosterWriter;
+import net.dutymate.api.domain.wardschedules.util.ScheduleVersionStore;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 근무표 내보내기 (CSV, XLSX, ICS)
+ * 검증과 조회 대상 확인은 응답 전에 하고, 실제 내용은 응답 스트림에 한 행(한 달)씩 바로 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+	private static final int MAX_EXPORT_MONTHS = 24;
+	private static final int ICS_FEED_MONTHS_BEFORE = 1;
+	private static final int ICS_FEED_MONTHS_AFTER = 2;
+	private static final String ICS_FEED_PATH = "/api/duty/ics/";
+	private static final String ICS_FEED_TOKEN_KEY_PREFIX = "duty:ics:token:";
+	private static final String ICS_FEED_MEMBER_KEY_PREFIX = "duty:ics:member:";
+	// 구독 중인 캘린더 앱은 주기적으로 조회하므로 조회할 때마다 연장하고, 쓰지 않는 주소만 만료
+	private static final Duration ICS_FEED_TTL = Duration.ofDays(90);
+
+	private final WardScheduleRepository wardScheduleRepository;
+	private final MemberScheduleQueryService memberScheduleQueryService;
+	private final MemberRepository memberRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final ScheduleVersionStore scheduleVersionStore;
+
+	/**
+	 * 병동 근무표 내보내기 (현재 스냅샷 기준, 행: 간호사)
+	 */
+	public StreamingResponseBody exportWardSchedule(Member member, YearMonth yearMonth, ExportFormat format) {
+		if (format == ExportFormat.ICS) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 근무표는 CSV, XLSX로만 내보낼 수 있습니다.");
+		}
+		if (member.getWardMember() == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다.");
+		}
+
+		Long wardId = member.getWardMember().getWard().getWardId();
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findByWardIdAndYearAndMonth(wardId, yearMonth.year(), yearMonth.month())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 월 듀티표가 존재하지 않습니다."));
+
+		List<WardSchedule.NurseShift> nurseShifts =
+			wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty();
+
+		Map<Long, String> nameMap = memberRepository.findAllById(
+				nurseShifts.stream().map(WardSchedule.NurseShift::getMemberId).toList())
+			.stream()
+			.collect(Collectors.toMap(Member::getMemberId, Member::getName));
+
+		return outputStream -> {
+			try (RosterWriter writer = RosterWriter.of(format, outputStream)) {
+				writer.writeHeader("이름", yearMonth.daysInMonth());
+				for (WardSchedule.NurseShift nurseShift : nurseShifts) {
+					writer.writeRow(nameMap.getOrDefault(nurseShift.getMemberId(), "(탈퇴회원)"),
+						nurseShift.getShifts());
+				}
+			}
+		};
+	}
+
+	/**
+	 * 개인 근무표 내보내기 (start부터 months개월, 행: 연월)
+	 */
+	public StreamingResponseBody exportMemberSchedule(Member member, YearMonth start, int months,
+		ExportFormat format) {
+		if (months < 1 || months > MAX_EXPORT_MONTHS) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"내보내기 기간은 1 ~ " + MAX_EXPORT_MONTHS + "개월까지 가능합니다.");
+		}
+
+		Long memberId = member.getMemberId();
+		if (format == ExportFormat.ICS) {
+			return outputStream -> writeIcs(memberId, start, months, new IcsWriter(outputStream));
+		}
+
+		return outputStream -> {
+			try (RosterWriter writer = RosterWriter.of(format, outputStream)) {
+				writer.writeHeader("연월", 31);
+				forEachMonth(memberId, start, months, (yearMonth, shifts) ->
+					writer.writeRow(yearMonth.year() + "-" + String.format("%02d", yearMonth.month()), shifts));
+			}
+		};
+	}
+
+	/**
+	 * 캘린더 앱 구독용 ICS 주소 발급 (이미 발급된 경우 같은 주소)
+	 * 토큰을 먼저 저장한 뒤 회원 키를 SET NX로 선점하고, 동시 요청에 밀리면 먼저 발급된 주소를 돌려준다.
+	 * 두 키 모두 ICS_FEED_TTL 동안 조회가 없으면 만료되며, 토큰이 먼저 만료된 경우 새로 발급한다.
+	 */
+	public IcsFeedResponseDto createIcsFeed(Member member) {
+		String memberKey = ICS_FEED_MEMBER_KEY_PREFIX + member.getMemberId();
+		String token = redisTemplate.opsForValue().get(memberKey);
+		if (token != null) {
+			if (Boolean.TRUE.equals(redisTemplate.expire(ICS_FEED_TOKEN_KEY_PREFIX + token, ICS_FEED_TTL))) {
+				redisTemplate.expire(memberKey, ICS_FEED_TTL);
+				return new IcsFeedResponseDto(ICS_FEED_PATH + token);
+			}
+			redisTemplate.delete(memberKey);
+		}
+
+		String newToken = UUID.randomUUID().toString().replace("-", "");
+		redisTemplate.opsForValue()
+			.set(ICS_FEED_TOKEN_KEY_PREFIX + newToken, member.getMemberId().toString(), ICS_FEED_TTL);
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(memberKey, newToken, ICS_FEED_TTL))) {
+			return new IcsFeedResponseDto(ICS_FEED_PATH + newToken);
+		}
+
+		redisTemplate.delete(ICS_FEED_TOKEN_KEY_PREFIX + newToken);
+		token = redisTemplate.opsForValue().get(memberKey);
+		if (token == null) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "캘린더 구독 주소 발급 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+		return new IcsFeedResponseDto(ICS_FEED_PATH + token);
+	}
+
+	/**
+	 * 캘린더 구독 주소 폐기 (주소가 유출된 경우 폐기 후 다시 발급, 회원 탈퇴 시 폐기)
+	 */
+	public void revokeIcsFeed(Long memberId) {
+		String token = redisTemplate.opsForValue().getAndDelete(ICS_FEED_MEMBER_KEY_PREFIX + memberId);
+		if (token != null) {
+			redisTemplate.delete(ICS_FEED_TOKEN_KEY_PREFIX + token);
+		}
+	}
+
+	// 구독 주소 조회 (조회할 때마다 만료 시각 연장)
+	public Long findIcsFeedMemberId(String token) {
+		String memberId = redisTemplate.opsForValue().getAndExpire(ICS_FEED_TOKEN_KEY_PREFIX + token, ICS_FEED_TTL);
+		if (memberId == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 캘린더 구독 주소입니다.");
+		}
+		redisTemplate.expire(ICS_FEED_MEMBER_KEY_PREFIX + memberId, ICS_FEED_TTL);
+		return Long.valueOf(memberId);
+	}
+
+	// ICS 구독 ETag (개인 근무표가 바뀌거나 달이 바뀌면 달라짐)
+	public String getIcsFeedETag(Long memberId) {
+		try {
+			YearMonth now = YearMonth.nowYearMonth();
+			return "ics-" + memberId + "-" + now.year() + "-" + now.month() + "-"
+				+ scheduleVersionStore.getMemberVersion(memberId);
+		} catch (DataAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 구독용 ICS (지난달 ~ 다다음달)
+	 */
+	public StreamingResponseBody exportIcsFeed(Long memberId) {
+		YearMonth start = YearMonth.nowYearMonth().plusYearMonth(-ICS_FEED_MONTHS_BEFORE);
+		int months = ICS_FEED_MONTHS_BEFORE + 1 + ICS_FEED_MONTHS_AFTER;
+		return outputStream -> writeIcs(memberId, start, months, new IcsWriter(outputStream));
+	}
+
+	private void writeIcs(Long memberId, YearMonth start, int months, IcsWriter icsWriter) throws IOException {
+		try (IcsWriter writer = icsWriter) {
+			writer.writeHeader("듀티메이트 근무");
+			forEachMonth(memberId, start, months,
+				(yearMonth, shifts) -> writer.writeMonth(memberId, yearMonth, shifts));
+		}
+	}
+
+	// 전체 기간을 한 번에 조회한 뒤 한 달씩 처리 (없는 달은 미지정 X로 채움)
+	private void forEachMonth(Long memberId, YearMonth start, int months, MonthConsumer consumer)
+		throws IOException {
+		MemberShiftRange shiftRange = memberScheduleQueryService.findShifts(List.of(memberId), start,
+			start.plusYearMonth(months - 1));
+		YearMonth yearMonth = start;
+		for (int i = 0; i < months; i++) {
+			consumer.accept(yearMonth, shiftRange.getMonthShifts(memberId, yearMonth));
+			yearMonth = yearMonth.nextYearMonth();
+		}
+	}
+
+	@FunctionalInterface
+	private interface MonthConsumer {
+		void accept(YearMonth yearMonth, String shifts) throws IOException;
+	}
+}
@@ -0,0 +1,92 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문자열로 저장된 근무(shifts)를 4비트 압축 포맷으로 다시 저장
+ * 읽기는 두 포맷을 모두 지원하므로, 조회 후 저장만 하면 압축 포맷으로 바뀐다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShiftsEncodingMigrationService {
+
+	private static final int BATCH_SIZE = 100;
+
+	private final MongoTemplate mongoTemplate;
+	private final WardScheduleRepository wardScheduleRepository;
+	private final MemberScheduleRepository memberScheduleRepository;
+
+	public int migrateMemberSchedules() {
+		int migratedCnt = 0;
+		ObjectId lastId = null;
+
+		List<String> ids;
+		while (!(ids = findStringShiftsIds("member_schedules", "shifts", lastId)).isEmpty()) {
+			List<MemberSchedule> memberSchedules = memberScheduleRepository.findAllById(ids);
+			memberScheduleRepository.saveAll(memberSchedules);
+
+			migratedCnt += memberSchedules.size();
+			lastId = new ObjectId(ids.getLast());
+		}
+		return migratedCnt;
+	}
+
+	public int migrateWardSchedules() {
+		int migratedCnt = 0;
+		ObjectId lastId = null;
+
+		List<String> ids;
+		while (!(ids = findStringShiftsIds("ward_schedules", "duties.duty.shifts", lastId)).isEmpty()) {
+			for (WardSchedule wardSchedule : wardScheduleRepository.findAllById(ids)) {
+				try {
+					wardScheduleRepository.save(wardSchedule);
+					migratedCnt++;
+				} catch (OptimisticLockingFailureException e) {
+					// 변환 도중 수정된 근무표는 수정 시점에 이미 압축 포맷으로 저장됨
+					log.debug("[Migration] Skip modified ward schedule id={}", wardSchedule.getId());
+				}
+			}
+			lastId = new ObjectId(ids.getLast());
+		}
+		return migratedCnt;
+	}
+
+	// 근무가 문자열로 저장된 문서 id 조회 (값 변환기를 거치지 않도록 드라이버로 직접 조회)
+	private List<String> findStringShiftsIds(String collectionName, String shiftsPath, ObjectId lastId) {
+		Bson filter = Filters.type(shiftsPath, BsonType.STRING);
+		if (lastId != null) {
+			filter = Filters.and(filter, Filters.gt("_id", lastId));
+		}
+
+		List<String> ids = new ArrayList<>();
+		mongoTemplate.getCollection(collectionName)
+			.find(filter)
+			.projection(Projections.include("_id"))
+			.sort(Sorts.ascending("_id"))
+			.limit(BATCH_SIZE)
+			.forEach((Document document) -> ids.add(document.getObjectId("_id").toHexString()));
+		return ids;
+	}
+}
@@ -0,0 +1,137 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.collections.WardScheduleArchive;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 달 병동 스케줄 히스토리 압축
+ * N개월 이전 근무표는 최종 스냅샷 + 수정 이력만 남기고, 전체 스냅샷은 보관 컬렉션으로 옮긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WardScheduleCompactionService {
+
+	private static final int BATCH_SIZE = 50;
+
+	private final MongoTemplate mongoTemplate;
+	private final WardScheduleRepository wardScheduleRepository;
+	private final InitialDutyGenerator initialDutyGenerator;
+
+	@Value("${schedule.compaction.months-before}")
+	private int monthsBefore;
+
+	/**
+	 * 압축 대상 근무표 일괄 처리
+	 * @return 압축한 근무표 수
+	 */
+	public int compactOldSchedules() {
+		YearMonth cutoff = YearMonth.nowYearMonth().plusYearMonth(-monthsBefore);
+
+		int compactedCnt = 0;
+		String lastId = null;
+
+		while (true) {
+			List<WardSchedule> wardSchedules = mongoTemplate.find(compactionTargetQuery(cutoff, lastId),
+				WardSchedule.class);
+			if (wardSchedules.isEmpty()) {
+				break;
+			}
+
+			for (WardSchedule wardSchedule : wardSchedules) {
+				if (compact(wardSchedule)) {
+					compactedCnt++;
+				}
+			}
+			lastId = wardSchedules.getLast().getId();
+		}
+		return compactedCnt;
+	}
+
+	private boolean compact(WardSchedule wardSchedule) {
+		List<WardSchedule.Duty> duties = wardSchedule.getDuties();
+		int nowIdx = wardSchedule.getNowIdx();
+
+		// 1. 전체 히스토리 보관 (압축 전 버전 기준 upsert : 저장 충돌 후 재시도해도 보관본이 늘어나지 않음)
+		archive(wardSchedule);
+
+		// 2. 최종 스냅샷까지의 수정 이력만 남기기 (nowIdx 이후로 되돌린 이력은 제외)
+		List<WardSchedule.History> editLog = new ArrayList<>();
+		if (wardSchedule.getEditLog() != null) {
+			editLog.addAll(wardSchedule.getEditLog());
+		}
+		for (WardSchedule.Duty duty : duties.subList(1, nowIdx + 1)) {
+			editLog.add(duty.getHistory());
+		}
+
+		// 3. 최종 스냅샷 하나로 압축
+		WardSchedule.Duty finalDuty = WardSchedule.Duty.builder()
+			.idx(0)
+			.duty(duties.get(nowIdx).getDuty())
+			.history(initialDutyGenerator.createInitialHistory())
+			.build();
+
+		wardSchedule.setDuties(new ArrayList<>(List.of(finalDuty)));
+		wardSchedule.setNowIdx(0);
+		wardSchedule.setEditLog(editLog);
+
+		try {
+			wardScheduleRepository.save(wardSchedule);
+			return true;
+		} catch (OptimisticLockingFailureException e) {
+			// 압축 도중 수정된 근무표는 다음 실행 때 다시 압축 (새 버전의 보관본이 따로 저장됨)
+			log.warn("[Compaction] Skip modified schedule wardId={} year={} month={}",
+				wardSchedule.getWardId(), wardSchedule.getYear(), wardSchedule.getMonth());
+			return false;
+		}
+	}
+
+	private void archive(WardSchedule wardSchedule) {
+		Query query = Query.query(Criteria.where("ward_id").is(wardSchedule.getWardId())
+			.and("year").is(wardSchedule.getYear())
+			.and("month").is(wardSchedule.getMonth())
+			.and("source_version").is(wardSchedule.getVersion()));
+		Update update = new Update()
+			.set("now_idx", wardSchedule.getNowIdx())
+			.set("duties", wardSchedule.getDuties())
+			.set("archived_at", LocalDateTime.now());
+		mongoTemplate.upsert(query, update, WardScheduleArchive.class);
+	}
+
+	// 기준 연월 이전 + 스냅샷이 2개 이상인 근무표 (_id 순으로 끊어서 조회)
+	private Query compactionTargetQuery(YearMonth cutoff, String lastId) {
+		Criteria criteria = new Criteria().andOperator(
+			new Criteria().orOperator(
+				Criteria.where("year").lt(cutoff.year()),
+				Criteria.where("year").is(cutoff.year()).and("month").lt(cutoff.month())),
+			Criteria.where("duties.1").exists(true));
+
+		if (lastId != null) {
+			criteria = new Criteria().andOperator(criteria, Criteria.where("_id").gt(new ObjectId(lastId)));
+		}
+
+		return Query.query(criteria)
+			.with(Sort.by(Sort.Direction.ASC, "_id"))
+			.limit(BATCH_SIZE);
+	}
+}
@@ -0,0 +1,153 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.wardschedules.dto.DutyChangeEventDto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병동 근무표 변경 실시간 알림 (SSE)
+ * 변경은 Redis pub/sub 채널로 발행되고, 모든 서버 인스턴스가 자신에게 연결된 병동 구독자에게 전달한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WardSchedulePushService implements MessageListener {
+
+	private static final String CHANNEL = "duty:changes";
+	private static final String EVENT_NAME = "duty";
+	private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+
+	// 이 인스턴스에 연결된 병동별 구독자
+	private final Map<Long, Set<SseEmitter>> emittersByWardId = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void subscribeChannel() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 병동 근무표 변경 구독
+	 */
+	public SseEmitter subscribe(Member member) {
+		if (member.getWardMember() == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다.");
+		}
+
+		Long wardId = member.getWardMember().getWard().getWardId();
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+
+		emittersByWardId.compute(wardId, (id, emitters) -> {
+			Set<SseEmitter> wardEmitters = emitters == null ? new CopyOnWriteArraySet<>() : emitters;
+			wardEmitters.add(emitter);
+			return wardEmitters;
+		});
+		emitter.onCompletion(() -> remove(wardId, emitter));
+		emitter.onTimeout(() -> remove(wardId, emitter));
+		emitter.onError(e -> remove(wardId, emitter));
+
+		// 연결 직후 응답이 시작되도록 첫 이벤트 전송
+		send(wardId, emitter, SseEmitter.event().name("connect").data("connected"));
+		return emitter;
+	}
+
+	/**
+	 * 근무표 변경 발행 (트랜잭션 안이면 커밋 후 발행)
+	 */
+	public void publish(DutyChangeEventDto event) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					convertAndSend(event);
+				}
+			});
+			return;
+		}
+		convertAndSend(event);
+	}
+
+	private void convertAndSend(DutyChangeEventDto event) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+		} catch (JsonProcessingException | DataAccessException e) {
+			// 알림 실패 시 클라이언트는 다음 조회(ETag)로 변경을 확인한다.
+			log.warn("[Push] Failed to publish duty change wardId={}", event.getWardId(), e);
+		}
+	}
+
+	// 다른 인스턴스를 포함해 발행된 변경을 이 인스턴스의 구독자에게 전달
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String json = new String(message.getBody(), StandardCharsets.UTF_8);
+		DutyChangeEventDto event;
+		try {
+			event = objectMapper.readValue(json, DutyChangeEventDto.class);
+		} catch (JsonProcessingException e) {
+			log.warn("[Push] Invalid duty change message: {}", json);
+			return;
+		}
+
+		Set<SseEmitter> emitters = emittersByWardId.get(event.getWardId());
+		if (emitters == null) {
+			return;
+		}
+
+		for (SseEmitter emitter : emitters) {
+			send(event.getWardId(), emitter, SseEmitter.event().name(EVENT_NAME).data(json));
+		}
+	}
+
+	// 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 전송 (인스턴스마다 실행)
+	@Scheduled(fixedRate = 30_000)
+	public void sendHeartbeat() {
+		emittersByWardId.forEach((wardId, emitters) ->
+			emitters.forEach(emitter -> send(wardId, emitter, SseEmitter.event().comment("ping"))));
+	}
+
+	private void send(Long wardId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			// 끊어진 연결 정리
+			remove(wardId, emitter);
+		}
+	}
+
+	private void remove(Long wardId, SseEmitter emitter) {
+		emittersByWardId.computeIfPresent(wardId, (id, emitters) -> {
+			emitters.remove(emitter);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+}
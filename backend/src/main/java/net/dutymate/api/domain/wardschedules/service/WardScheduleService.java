@@ -4,16 +4,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import net.dutymate.api.domain.autoschedule.Shift;
@@ -33,6 +36,8 @@ import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
 import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 import net.dutymate.api.domain.wardschedules.dto.AllWardDutyResponseDto;
+import net.dutymate.api.domain.wardschedules.dto.BulkEditDutyRequestDto;
+import net.dutymate.api.domain.wardschedules.dto.DutyChangeEventDto;
 import net.dutymate.api.domain.wardschedules.dto.EditDutyRequestDto;
 import net.dutymate.api.domain.wardschedules.dto.EditMemberDutyRequestDto;
 import net.dutymate.api.domain.wardschedules.dto.MyDutyResponseDto;
@@ -43,6 +48,11 @@ import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
 import net.dutymate.api.domain.wardschedules.util.DutyAutoCheck;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+import net.dutymate.api.domain.wardschedules.util.MemberShiftRange;
+import net.dutymate.api.domain.wardschedules.util.ScheduleVersionStore;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleEditor;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleViewCache;
+import net.dutymate.api.global.auth.principal.AuthPrincipal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,8 +67,15 @@ public class WardScheduleService {
 	private final WardMemberRepository wardMemberRepository;
 	private final MemberScheduleRepository memberScheduleRepository;
 	private final CalendarRepository calendarRepository;
-
-	@Transactional
+	private final WardScheduleEditor wardScheduleEditor;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
+	private final WardScheduleViewCache wardScheduleViewCache;
+	private final ScheduleVersionStore scheduleVersionStore;
+	private final WardSchedulePushService wardSchedulePushService;
+	private final MemberScheduleQueryService memberScheduleQueryService;
+	private final TransactionTemplate transactionTemplate;
+
+	// 캐시 대기 중 DB 커넥션을 잡지 않도록 트랜잭션은 loader(buildWardSchedule)에서만 연다.
 	public WardScheduleResponseDto getWardSchedule(Member member, final YearMonth yearMonth, Integer nowIdx) {
 
 		// 조회하려는 달이 (현재 달 + 2달) 안에 포함되지 않는 경우 예외 처리
@@ -66,18 +83,40 @@ public class WardScheduleService {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표는 최대 다다음달 까지만 조회가 가능합니다.");
 		}
 
-		// 이전 연, 월 초기화
-		YearMonth prevYearMonth = yearMonth.prevYearMonth();
-
 		// 현재 속한 병동 정보 가져오기
 		Ward ward = Optional.of(member.getWardMember())
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
 			.getWard();
 
-		// 몽고 DB에서 병동 스케줄 가져오기
+		// 최신 근무표 조회는 캐시 사용 (히스토리 이동은 nowIdx 갱신이 필요하므로 캐시 사용 X)
+		if (nowIdx == null) {
+			return wardScheduleViewCache.get(WardScheduleViewCache.WARD_SCHEDULE_VIEW, ward.getWardId(), yearMonth,
+				WardScheduleResponseDto.class,
+				() -> transactionTemplate.execute(status -> buildWardSchedule(ward, yearMonth, null)));
+		}
+		return transactionTemplate.execute(status -> buildWardSchedule(ward, yearMonth, nowIdx));
+	}
+
+	private WardScheduleResponseDto buildWardSchedule(Ward ward, final YearMonth yearMonth, Integer nowIdx) {
+		return buildWardSchedule(ward, yearMonth, nowIdx, null, Set.of());
+	}
+
+	// previous: 수정 전 최신 근무표 조회 결과 (있으면 changedMemberIds의 간호사만 규칙 위반을 다시 검사)
+	private WardScheduleResponseDto buildWardSchedule(Ward ward, final YearMonth yearMonth, Integer nowIdx,
+		WardScheduleResponseDto previous, Set<Long> changedMemberIds) {
+
+		// 이전 연, 월 초기화
+		YearMonth prevYearMonth = yearMonth.prevYearMonth();
+
+		// 몽고 DB에서 병동 스케줄 가져오기 (없으면 새로 생성 후 개인 스케줄 연동 요청)
 		WardSchedule wardSchedule =
 			wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-				.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth));
+				.orElseGet(() -> {
+					WardSchedule newWardSchedule =
+						initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth);
+					memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
+					return newWardSchedule;
+				});
 
 		// 몽고 DB에서 전달 병동 스케줄 가져오기
 		WardSchedule prevWardSchedule = wardScheduleRepository
@@ -87,6 +126,10 @@ public class WardScheduleService {
 		if (nowIdx == null) {
 			nowIdx = wardSchedule.getNowIdx();
 		}
+		// 압축된 근무표는 히스토리가 하나뿐이므로 이전에 받은 히스토리 번호가 범위를 벗어날 수 있음
+		if (nowIdx < 0 || nowIdx >= wardSchedule.getDuties().size()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 히스토리입니다.");
+		}
 
 		// 이번달 듀티표 가져오기
 		List<WardSchedule.NurseShift> recentNurseShifts = wardSchedule.getDuties().get(nowIdx).getDuty();
@@ -98,21 +141,31 @@ public class WardScheduleService {
 			prevNurseShifts = null;
 		}
 
-		wardSchedule.setNowIdx(nowIdx);
+		// 히스토리 이동 시에만 nowIdx 갱신 (문서 전체 저장 대신 부분 업데이트)
+		if (nowIdx != wardSchedule.getNowIdx()) {
+			wardScheduleRepository.updateNowIdxById(wardSchedule.getId(), nowIdx);
+			wardSchedule.setNowIdx(nowIdx);
+			wardScheduleViewCache.evictWard(ward.getWardId());
+			wardSchedulePushService.publish(
+				DutyChangeEventDto.ofReload(ward.getWardId(), yearMonth.year(), yearMonth.month(), null));
 
-		wardScheduleRepository.save(wardSchedule);
+			// 병동 듀티 -> 개인 듀티 : 연동 요청
+			memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
+		}
 
 		// recentNurseShifts -> DTO 변환
 		List<WardScheduleResponseDto.NurseShifts> nurseShiftsDto = recentNurseShifts.stream()
 			.map(WardScheduleResponseDto.NurseShifts::of)
 			.toList();
 
-		// 듀티표 멤버ID 목록
-		HashSet<Long> updatedMemberIds = new HashSet<>();
+		// 간호사 정보 한 번에 조회
+		Map<Long, Member> nurseMap = findNurseMap(nurseShiftsDto.stream()
+			.map(WardScheduleResponseDto.NurseShifts::getMemberId)
+			.toList());
 
 		// DTO에 값 넣어주기
 		nurseShiftsDto.forEach(now -> {
-			Member nurse = memberRepository.findById(now.getMemberId())
+			Member nurse = Optional.ofNullable(nurseMap.get(now.getMemberId()))
 				.orElseGet(() -> Member.builder().name("(탈퇴회원)").role(Role.RN).grade(1).build());
 			// .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "간호사 매핑 오류"));
 			now.setName(nurse.getName());
@@ -131,11 +184,6 @@ public class WardScheduleService {
 					.orElseGet(() -> WardSchedule.NurseShift.builder().shifts("XXXX").build());
 				now.setPrevShifts(prevShifts.getShifts().substring(prevShifts.getShifts().length() - 4));
 			}
-
-			// 병동 스케줄에 있는 멤버 ID 목록에 추가
-			if (!"(탈퇴회원)".equals(now.getName())) {
-				updatedMemberIds.add(now.getMemberId());
-			}
 		});
 
 		// 정렬
@@ -165,7 +213,9 @@ public class WardScheduleService {
 			.toList();
 
 		// Issues 구하기
-		List<WardScheduleResponseDto.Issue> issues = DutyAutoCheck.check(nurseShiftsDto, ward.getRule());
+		List<WardScheduleResponseDto.Issue> issues = previous == null
+			? DutyAutoCheck.check(nurseShiftsDto, ward.getRule())
+			: DutyAutoCheck.recheck(nurseShiftsDto, ward.getRule(), previous, changedMemberIds);
 
 		// History 구하기
 		List<WardScheduleResponseDto.History> histories = findHistory(wardSchedule.getDuties());
@@ -173,32 +223,6 @@ public class WardScheduleService {
 		// 승인, 대기 상태인 요청 구하기
 		List<WardScheduleResponseDto.RequestDto> requests = null;
 
-		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
-		for (Long updatedMemberId : updatedMemberIds) {
-			Member updatedMember = memberRepository.findById(updatedMemberId)
-				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
-
-			// 수정된 병동 스케줄 연월이 업데이트된 회원의 입장 연월보다 이후이면 memberSchedule 업데이트
-			if (yearMonth.isSameOrAfter(updatedMember.enterYearMonth())) {
-				MemberSchedule memberSchedule = getOrCreateMemberSchedule(updatedMemberId, yearMonth);
-
-				String updatedShifts = wardSchedule.getDuties()
-					.get(nowIdx)
-					.getDuty()
-					.stream()
-					.filter(nurseShift -> Objects.equals(nurseShift.getMemberId(), updatedMemberId))
-					.findAny()
-					.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄에서 회원을 찾을 수 없습니다."))
-					.getShifts();
-
-				memberSchedule.setShifts(updatedShifts);
-				memberSchedulesToSave.add(memberSchedule);
-			}
-		}
-		// 개인 듀티를 모아서 한 번에 저장
-		memberScheduleRepository.saveAll(memberSchedulesToSave);
-
 		// 간호사 순서 데이터 불러오기
 		List<Long> nurseOrder = wardSchedule.getNurseOrder();
 
@@ -206,6 +230,45 @@ public class WardScheduleService {
 			requests, nurseOrder);
 	}
 
+	// 최신 병동 근무표 ETag (병동 버전이 바뀌지 않았으면 같은 값)
+	public String getWardScheduleETag(AuthPrincipal principal, YearMonth yearMonth) {
+		return getWardETag(WardScheduleViewCache.WARD_SCHEDULE_VIEW, principal, yearMonth);
+	}
+
+	// 병동 전체 근무표 ETag
+	public String getAllWardDutyETag(AuthPrincipal principal, YearMonth yearMonth) {
+		return getWardETag(WardScheduleViewCache.ALL_WARD_DUTY_VIEW, principal, yearMonth);
+	}
+
+	// 개인 근무표 ETag (개인 근무표, 캘린더가 바뀌지 않았으면 같은 값)
+	public String getMyDutyETag(AuthPrincipal principal, YearMonth yearMonth) {
+		return toETag("my", principal.memberId(), yearMonth,
+			() -> scheduleVersionStore.getMemberVersion(principal.memberId()));
+	}
+
+	// 인증 회원 스냅샷만 사용 (304 응답이면 회원, 병동 엔티티를 조회하지 않음)
+	private String getWardETag(String view, AuthPrincipal principal, YearMonth yearMonth) {
+		if (!principal.hasWard()) {
+			return null;
+		}
+
+		Long wardId = principal.wardId();
+		return toETag(view, wardId, yearMonth, () -> scheduleVersionStore.getWardVersion(wardId));
+	}
+
+	// 버전을 조회할 수 없으면 (Redis 장애) ETag 없이 응답
+	private String toETag(String view, Long id, YearMonth yearMonth, Supplier<String> versionSupplier) {
+		try {
+			String version = versionSupplier.get();
+			if (version == null) {
+				return null;
+			}
+			return view + "-" + id + "-" + yearMonth.year() + "-" + yearMonth.month() + "-" + version;
+		} catch (DataAccessException e) {
+			return null;
+		}
+	}
+
 	private boolean isWithinNextTwoMonths(YearMonth target) {
 		YearMonth now = YearMonth.nowYearMonth();
 		YearMonth limit = now.plusYearMonth(2); // 2개월 뒤 제한
@@ -223,66 +286,85 @@ public class WardScheduleService {
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
 			.getWard();
 
-		// 몽고 DB에서 이번달 병동 스케줄 불러오기
-		WardSchedule wardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표가 생성되지 않았습니다."));
+		// 요청을 셀 단위 수정으로 변환
+		List<WardScheduleEditor.CellEdit> cellEdits = editDutyRequestDtoList.stream()
+			.map(editDutyRequestDto -> WardScheduleEditor.CellEdit.of(editDutyRequestDto.getHistory()))
+			.toList();
+
+		// 수정 전 조회 결과 (규칙 위반 검사 재사용)
+		WardScheduleResponseDto previous = findCachedWardSchedule(ward, yearMonth);
 
-		// PUT 요청 : 히스토리로 nowIdx가 중간으로 돌아간 상황에서 수동 수정이 일어난 경우,
-		List<WardSchedule.Duty> recentDuties = wardSchedule.getDuties();
-		int nowIdx = wardSchedule.getNowIdx();
+		// 최신 병동 스케줄에 수정사항 반영 후 저장 (동시 수정 충돌 시 최신 상태에 재적용)
+		WardSchedule wardSchedule = wardScheduleEditor.edit(ward.getWardId(), yearMonth, cellEdits);
 
-		// 히스토리 포인트로 돌아 갔을 때, 수정 요청이 들어오면, 히스토리 이후 데이터 날리기
-		List<WardSchedule.Duty> duties = recentDuties.subList(0, nowIdx + 1); // nowIdx 이후 데이터 제거
+		// 병동 듀티 -> 개인 듀티 : 연동 요청
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
 
-		for (EditDutyRequestDto editDutyRequestDto : editDutyRequestDtoList) {
-			final int modifiedIndex = editDutyRequestDto.getHistory().getModifiedDay() - 1;
-			final Long modifiedMemberId = editDutyRequestDto.getHistory().getMemberId();
+		return buildEditedWardSchedule(ward, yearMonth, wardSchedule, previous, cellEdits);
+	}
 
-			// 가장 최근 스냅샷
-			List<WardSchedule.NurseShift> recentDuty = duties.get(nowIdx).getDuty();
+	@Transactional
+	public WardScheduleResponseDto editWardScheduleBulk(Member member, BulkEditDutyRequestDto bulkEditDutyRequestDto) {
+		final YearMonth yearMonth = new YearMonth(bulkEditDutyRequestDto.getYear(), bulkEditDutyRequestDto.getMonth());
 
-			// 새로 만들 스냅샷
-			List<WardSchedule.NurseShift> newDuty = new ArrayList<>();
+		// 병동멤버와 병동 초기화
+		Ward ward = Optional.ofNullable(member.getWardMember())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
+			.getWard();
 
-			// 가장 최근 스냅샷 -> 새로 만들 스냅샷 복사 (깊은 복사)
-			recentDuty.forEach(nurseShift -> newDuty.add(WardSchedule.NurseShift.builder()
-				.memberId(nurseShift.getMemberId())
-				.shifts(nurseShift.getShifts())
-				.build()));
+		List<BulkEditDutyRequestDto.Cell> cells = bulkEditDutyRequestDto.getCells();
+		BulkEditDutyRequestDto.Cell firstCell = cells.getFirst();
+
+		// 여러 칸 수정을 하나의 히스토리로 묶기 (대표값은 첫 번째 칸)
+		WardSchedule.History history = WardSchedule.History.builder()
+			.memberId(firstCell.getMemberId())
+			.name(firstCell.getName())
+			.before(String.valueOf(firstCell.getBefore()))
+			.after(String.valueOf(firstCell.getAfter()))
+			.modifiedDay(firstCell.getDay())
+			.isAutoCreated(false)
+			.cells(cells.stream()
+				.map(cell -> WardSchedule.Cell.builder()
+					.memberId(cell.getMemberId())
+					.day(cell.getDay())
+					.before(String.valueOf(cell.getBefore()))
+					.after(String.valueOf(cell.getAfter()))
+					.build())
+				.toList())
+			.build();
 
-			// 새로 만들 스냅샷에 수정사항 반영
-			newDuty.stream()
-				.filter(prev -> Objects.equals(prev.getMemberId(), modifiedMemberId))
-				.forEach(prev -> {
-					String before = prev.getShifts();
-					String after = before.substring(0, modifiedIndex) + editDutyRequestDto.getHistory().getAfter()
-						+ before.substring(modifiedIndex + 1);
+		List<WardScheduleEditor.CellEdit> cellEdits = cells.stream()
+			.map(cell -> new WardScheduleEditor.CellEdit(cell.getMemberId(), cell.getDay(), cell.getAfter(),
+				history))
+			.toList();
 
-					prev.changeShifts(after);
-				});
+		WardScheduleResponseDto previous = findCachedWardSchedule(ward, yearMonth);
 
-			// 기존 병동 스케줄에 새로운 스냅샷 추가 및 저장
-			duties.add(WardSchedule.Duty.builder()
-				.idx(nowIdx + 1)
-				.duty(newDuty)
-				.history(WardSchedule.History.builder()
-					.memberId(editDutyRequestDto.getHistory().getMemberId())
-					.name(editDutyRequestDto.getHistory().getName())
-					.before(editDutyRequestDto.getHistory().getBefore())
-					.after(editDutyRequestDto.getHistory().getAfter())
-					.modifiedDay(editDutyRequestDto.getHistory().getModifiedDay())
-					.isAutoCreated(editDutyRequestDto.getHistory().getIsAutoCreated())
-					.build())
-				.build());
+		// 최신 병동 스케줄에 수정사항을 한 번에 반영 (스냅샷 1개)
+		WardSchedule wardSchedule = wardScheduleEditor.editBulk(ward.getWardId(), yearMonth, cellEdits, history);
+
+		// 병동 듀티 -> 개인 듀티 : 연동 요청
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
 
-			nowIdx++;
+		return buildEditedWardSchedule(ward, yearMonth, wardSchedule, previous, cellEdits);
+	}
+
+	// 수정 전 최신 근무표 조회 결과 (캐시에 없으면 null)
+	private WardScheduleResponseDto findCachedWardSchedule(Ward ward, YearMonth yearMonth) {
+		if (!isWithinNextTwoMonths(yearMonth)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표는 최대 다다음달 까지만 조회가 가능합니다.");
 		}
+		return wardScheduleViewCache.getIfPresent(WardScheduleViewCache.WARD_SCHEDULE_VIEW, ward.getWardId(),
+			yearMonth, WardScheduleResponseDto.class);
+	}
 
-		wardSchedule.setDuties(duties);
-		wardSchedule.setNowIdx(nowIdx);
-		wardScheduleRepository.save(wardSchedule);
-		return getWardSchedule(member, yearMonth, nowIdx);
+	// 수정 결과 근무표 (수정한 간호사만 규칙 위반을 다시 검사)
+	private WardScheduleResponseDto buildEditedWardSchedule(Ward ward, YearMonth yearMonth,
+		WardSchedule wardSchedule, WardScheduleResponseDto previous, List<WardScheduleEditor.CellEdit> cellEdits) {
+		Set<Long> changedMemberIds = cellEdits.stream()
+			.map(WardScheduleEditor.CellEdit::memberId)
+			.collect(Collectors.toSet());
+		return buildWardSchedule(ward, yearMonth, wardSchedule.getNowIdx(), previous, changedMemberIds);
 	}
 
 	private List<WardScheduleResponseDto.History> findHistory(List<WardSchedule.Duty> duties) {
@@ -298,36 +380,38 @@ public class WardScheduleService {
 					.after(Shift.valueOf(duty.getHistory().getAfter()))
 					.modifiedDay(duty.getHistory().getModifiedDay())
 					.isAutoCreated(duty.getHistory().getIsAutoCreated())
+					.cellCnt(duty.getHistory().getCells() == null ? null : duty.getHistory().getCells().size())
 					.build());
 			}
 		}
 		return histories;
 	}
 
+	// memberId -> 회원 (병동 멤버와 함께 한 번에 조회, 탈퇴한 회원은 없음)
+	private Map<Long, Member> findNurseMap(List<Long> memberIds) {
+		return memberRepository.findAllWithWardMemberByMemberIdIn(memberIds).stream()
+			.collect(Collectors.toMap(Member::getMemberId, member -> member));
+	}
+
 	@Transactional(readOnly = true)
 	public MyDutyResponseDto getMyDuty(Member member, final YearMonth yearMonth) {
-		// 1. 이전 달, 다음 달 계산
-		// 이전 연, 월 초기화
-		YearMonth prevYearMonth = yearMonth.prevYearMonth();
-		// 다음 연, 월 초기화
-		YearMonth nextYearMonth = yearMonth.nextYearMonth();
-		// 일주일 상수 초기화
+		// 1. 일주일 상수 초기화
 		final int daysInAWeek = 7;
 
-		// 2. 근무표 조회
-		// 사용자 병동 입장X
-		String shifts = getOrCreateMemberSchedule(member.getMemberId(), yearMonth).getShifts();
-		String prevShifts = getOrCreateMemberSchedule(member.getMemberId(), prevYearMonth).getShifts()
-			.substring(prevYearMonth.daysInMonth() - daysInAWeek);
-		String nextShifts = getOrCreateMemberSchedule(member.getMemberId(), nextYearMonth).getShifts()
-			.substring(0, daysInAWeek);
-
-		// 3. 날짜 범위 계산
+		// 2. 날짜 범위 계산
 		LocalDate firstDay = yearMonth.atDay(1); // 이번달 1일
 		LocalDate lastDay = yearMonth.atEndOfMonth(); // 이번달 말일
 		LocalDate prevStart = firstDay.minusDays(daysInAWeek); // 전달 7일 시작 날짜
 		LocalDate nextEnd = lastDay.plusDays(daysInAWeek); // 다음달 7일 끝나는 날짜
 
+		// 3. 근무표 조회 (전달 7일 ~ 다음달 7일을 한 번에 조회, 없는 근무표는 X)
+		Long memberId = member.getMemberId();
+		MemberShiftRange shiftRange =
+			memberScheduleQueryService.findShifts(List.of(memberId), prevStart, nextEnd);
+		String shifts = shiftRange.getShifts(memberId, firstDay, lastDay);
+		String prevShifts = shiftRange.getShifts(memberId, prevStart, firstDay.minusDays(1));
+		String nextShifts = shiftRange.getShifts(memberId, lastDay.plusDays(1), nextEnd);
+
 		// 4. 일정 조회
 		// 전달 7일 ~ 다음달 7일까지 일정 조회
 		List<Calendar> calendars = calendarRepository.findAllByMemberAndDateBetween(member, prevStart, nextEnd);
@@ -425,8 +509,9 @@ public class WardScheduleService {
 
 		// 병동 미가입 평간호사는 본인의 근무만 개인 듀티에서 구한 후 종료한다.
 		if (wardMember == null) {
-			MemberSchedule memberSchedule = getOrCreateMemberSchedule(member.getMemberId(), new YearMonth(year, month));
-			char myShift = memberSchedule.getShifts().charAt(date - 1);
+			char myShift = memberScheduleQueryService
+				.findShifts(List.of(member.getMemberId()), new YearMonth(year, month), new YearMonth(year, month))
+				.getShift(member.getMemberId(), LocalDate.of(year, month, date));
 			return TodayDutyResponseDto.of(myShift, null);
 		}
 
@@ -445,10 +530,15 @@ public class WardScheduleService {
 			.findAny()
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "나의 근무를 찾을 수 없습니다."));
 
+		// 간호사 정보 한 번에 조회
+		Map<Long, Member> nurseMap = findNurseMap(nurseShifts.stream()
+			.map(WardSchedule.NurseShift::getMemberId)
+			.toList());
+
 		// 다른 사람들의 근무표 리스트 구하고 DTO 변환
 		List<TodayDutyResponseDto.GradeNameShift> otherShifts = nurseShifts.stream()
 			.map(nurseShift -> {
-				Member nurse = memberRepository.findById(nurseShift.getMemberId())
+				Member nurse = Optional.ofNullable(nurseMap.get(nurseShift.getMemberId()))
 					.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "간호사 매핑 오류"));
 				return TodayDutyResponseDto.GradeNameShift
 					.of(nurse.getGrade(), nurse.getName(), nurseShift.getShifts().charAt(date - 1));
@@ -459,7 +549,7 @@ public class WardScheduleService {
 		return TodayDutyResponseDto.of(myShift.getShifts().charAt(date - 1), otherShifts);
 	}
 
-	@Transactional(readOnly = true)
+	// 트랜잭션은 loader에서만 (getWardSchedule 참고)
 	public AllWardDutyResponseDto getAllWardDuty(Member member, Integer year, Integer month) {
 		WardMember wardMember = member.getWardMember();
 
@@ -470,6 +560,12 @@ public class WardScheduleService {
 		// 1. 입력된 연월 가져오기, null이면 현재 연월
 		YearMonth yearMonth = new YearMonth(year, month);
 
+		return wardScheduleViewCache.get(WardScheduleViewCache.ALL_WARD_DUTY_VIEW, wardMember.getWard().getWardId(),
+			yearMonth, AllWardDutyResponseDto.class,
+			() -> transactionTemplate.execute(status -> buildAllWardDuty(wardMember, yearMonth)));
+	}
+
+	private AllWardDutyResponseDto buildAllWardDuty(WardMember wardMember, final YearMonth yearMonth) {
 		// 2. 병동 정보 조회
 		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
 				wardMember.getWard().getWardId(), yearMonth.year(), yearMonth.month())
@@ -488,34 +584,38 @@ public class WardScheduleService {
 			.map(WardSchedule.NurseShift::getMemberId)
 			.toList();
 
-		// Member ID로 WardMember 맵 생성 (최적화)
-		Map<Long, WardMember> wardMemberMap = wardMemberRepository.findByMember_MemberIdIn(memberIds)
+		// Member ID로 WardMember 맵 생성 (회원도 함께 조회)
+		Map<Long, WardMember> wardMemberMap = wardMemberRepository.findAllWithMemberByMemberIdIn(memberIds)
 			.stream()
 			.collect(Collectors.toMap(
 				wm -> wm.getMember().getMemberId(),
 				wm -> wm
 			));
 
+		// 병동을 나간 회원도 한 번에 조회
+		List<Long> leftMemberIds = memberIds.stream()
+			.filter(memberId -> !wardMemberMap.containsKey(memberId))
+			.toList();
+		Map<Long, Member> leftMemberMap = leftMemberIds.isEmpty() ? Map.of() : findNurseMap(leftMemberIds);
+
 		// 탈퇴 회원 처리: 누락된 memberId에 대해 더미 WardMember 생성
-		for (Long memberId : memberIds) {
-			if (!wardMemberMap.containsKey(memberId)) {
-				// 더미 Member 생성
-				Member deletedMember = memberRepository.findById(memberId)
-					.orElseGet(() -> Member.builder()
-						.memberId(memberId)
-						.name("(탈퇴회원)")
-						.role(Role.RN)
-						.grade(1)
-						.build());
-
-				// 더미 WardMember 생성
-				WardMember dummyWardMember = WardMember.builder()
-					.member(deletedMember)
-					.shiftFlags(ShiftType.ALL.getFlag())
-					.build();
+		for (Long memberId : leftMemberIds) {
+			// 더미 Member 생성
+			Member deletedMember = Optional.ofNullable(leftMemberMap.get(memberId))
+				.orElseGet(() -> Member.builder()
+					.memberId(memberId)
+					.name("(탈퇴회원)")
+					.role(Role.RN)
+					.grade(1)
+					.build());
 
-				wardMemberMap.put(memberId, dummyWardMember);
-			}
+			// 더미 WardMember 생성
+			WardMember dummyWardMember = WardMember.builder()
+				.member(deletedMember)
+				.shiftFlags(ShiftType.ALL.getFlag())
+				.build();
+
+			wardMemberMap.put(memberId, dummyWardMember);
 		}
 
 		// 5. NurseShift를 AllNurseShift로 변환하고 정렬
@@ -584,12 +684,6 @@ public class WardScheduleService {
 
 		Ward ward = wardMember.getWard();
 
-		// 해당 월의 근무표 불러오기
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(),
-				yearMonth.year(), yearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
-				"아직 해당 월의 근무표가 생성되지 않았습니다."));
-
 		List<Request> acceptedRequestList = requestRepository.findAcceptedWardRequestsByYearMonth(
 			ward, yearMonth.year(), yearMonth.month(), RequestStatus.ACCEPTED
 		);
@@ -620,83 +714,56 @@ public class WardScheduleService {
 			})
 			.toList();
 
-		WardSchedule.Duty resetDuty = WardSchedule.Duty.builder()
-			.idx(0)
-			.duty(nurseShifts)
-			.history(initialDutyGenerator.createInitialHistory())
-			.build();
+		// 해당 월의 근무표 초기화 (동시 수정 충돌 시 최신 근무표를 다시 초기화)
+		WardSchedule wardSchedule = wardScheduleEditor.update(ward.getWardId(), yearMonth, schedule -> {
+				WardSchedule.Duty resetDuty = WardSchedule.Duty.builder()
+					.idx(0)
+					.duty(nurseShifts)
+					.history(initialDutyGenerator.createInitialHistory())
+					.build();
 
-		wardSchedule.getDuties().clear();
-		wardSchedule.getDuties().add(resetDuty);
-		wardSchedule.setNowIdx(0);
+				schedule.setDuties(new ArrayList<>(List.of(resetDuty)));
+				schedule.setNowIdx(0);
+				return schedule;
+			})
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+				"아직 해당 월의 근무표가 생성되지 않았습니다."));
 
-		wardScheduleRepository.save(wardSchedule);
+		wardSchedulePushService.publish(DutyChangeEventDto.ofReload(ward.getWardId(), yearMonth.year(),
+			yearMonth.month(), wardSchedule.getVersion()));
 
-		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		for (WardSchedule.NurseShift nurseShift : nurseShifts) {
-			// 탈퇴회원일 수도 있다. 그러나 현재 초기화하면 탈퇴회원 듀티표 싹 사라지고 현재 병동에 속한 사람들로만 초기화 됨
-			Member nurse = memberRepository.findById(nurseShift.getMemberId())
-				.orElseGet(() -> Member.builder().name("(탈퇴회원)").role(Role.RN).grade(1).build());
-			if (yearMonth.isSameOrAfter(nurse.enterYearMonth()) && !"(탈퇴회원)".equals(nurse.getName())) {
-				getOrCreateMemberSchedule(nurseShift.getMemberId(), yearMonth).setShifts(nurseShift.getShifts());
-			}
-		}
+		// 병동 듀티 -> 개인 듀티 : 연동 요청
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
 	}
 
 	// 임시간호사 생성 시, mongo update
 	public void updateWardSchedules(Long wardId, List<WardMember> newWardMemberList) {
-		// 5. MongoDB 듀티표 업데이트
-		// 이번달 듀티
+		// 5. MongoDB 듀티표 업데이트 (이번달, 다음달 근무표에 새 멤버 추가, 충돌 시 최신 근무표에 다시 추가)
 		YearMonth yearMonth = YearMonth.nowYearMonth();
-
-		WardSchedule currMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			wardId, yearMonth.year(), yearMonth.month()).orElse(null);
-
-		// 다음달 듀티
 		YearMonth nextYearMonth = yearMonth.nextYearMonth();
-		WardSchedule nextMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			wardId, nextYearMonth.year(), nextYearMonth.month()).orElse(null);
-
-		List<WardSchedule> updatedScheduleList = new ArrayList<>();
-
-		// 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기
-		if (currMonthSchedule != null) {
-			for (WardMember nurse : newWardMemberList) {
-				currMonthSchedule = initialDutyGenerator
-					.updateDutyWithNewMember(currMonthSchedule, nurse, yearMonth.initializeShifts());
-			}
-			updatedScheduleList.add(currMonthSchedule);
-		}
 
-		if (nextMonthSchedule != null) {
-			for (WardMember nurse : newWardMemberList) {
-				nextMonthSchedule = initialDutyGenerator
-					.updateDutyWithNewMember(nextMonthSchedule, nurse, nextYearMonth.initializeShifts());
-			}
-			updatedScheduleList.add(nextMonthSchedule);
-		}
+		boolean currMonthUpdated = addNewMembers(wardId, yearMonth, newWardMemberList);
+		boolean nextMonthUpdated = addNewMembers(wardId, nextYearMonth, newWardMemberList);
 
 		// 6. 기존 스케줄이 없다면, 입장한 멤버의 듀티표 초기화하여 저장하기
 		// 사실 이미 병동이 생성된 이상, 무조건 기존 스케줄이 있어야만 함
-		if (currMonthSchedule == null && nextMonthSchedule == null) {
+		if (!currMonthUpdated && !nextMonthUpdated) {
 			for (WardMember nurse : newWardMemberList) {
-				updatedScheduleList.add(initialDutyGenerator.initializedDuty(nurse, yearMonth));
+				initialDutyGenerator.initializedDuty(nurse, yearMonth);
 			}
 		}
+	}
 
-		// 7. MongoDB에 한 번만 접근하여 데이터 넣기
-		if (!updatedScheduleList.isEmpty()) {
-			for (WardSchedule schedule : updatedScheduleList) {
-
-				wardScheduleRepository
-					.findByWardIdAndYearAndMonth(schedule.getWardId(), schedule.getYear(), schedule.getMonth())
-					.ifPresent(existingSchedule -> schedule.setIdIfNotExist(existingSchedule.getId()));
-
-				schedule.setDuties(new ArrayList<>(schedule.getDuties()));
+	// 근무표가 있으면 새 멤버들의 초기화된 duty를 추가한 스냅샷으로 저장
+	private boolean addNewMembers(Long wardId, YearMonth yearMonth, List<WardMember> newWardMemberList) {
+		return wardScheduleEditor.update(wardId, yearMonth, schedule -> {
+			WardSchedule updatedSchedule = schedule;
+			for (WardMember nurse : newWardMemberList) {
+				updatedSchedule = initialDutyGenerator
+					.updateDutyWithNewMember(updatedSchedule, nurse, yearMonth.initializeShifts());
 			}
-
-			wardScheduleRepository.saveAll(updatedScheduleList);
-		}
+			return updatedSchedule;
+		}).isPresent();
 	}
 
 	@Transactional
@@ -730,10 +797,9 @@ public class WardScheduleService {
 		Integer year = nurseOrderRequestDto.getYear();
 		Integer month = nurseOrderRequestDto.getMonth();
 
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(wardId, year, month)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "아직 해당 월의 근무표가 생성되지 않았습니다."));
-
-		wardSchedule.setNurseOrder(nurseOrderRequestDto.getNurseOrder());
-		wardScheduleRepository.save(wardSchedule);
+		wardScheduleEditor.update(wardId, new YearMonth(year, month), wardSchedule -> {
+			wardSchedule.setNurseOrder(nurseOrderRequestDto.getNurseOrder());
+			return wardSchedule;
+		}).orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "아직 해당 월의 근무표가 생성되지 않았습니다."));
 	}
 }
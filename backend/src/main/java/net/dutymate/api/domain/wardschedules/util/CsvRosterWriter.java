@@ -0,0 +1,56 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+public class CsvRosterWriter implements RosterWriter {
+
+	// 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 추가
+	private static final char UTF8_BOM = '\uFEFF';
+
+	private final BufferedWriter writer;
+
+	public CsvRosterWriter(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void writeHeader(String label, int days) throws IOException {
+		writer.write(UTF8_BOM);
+		writer.write(escape(label));
+		for (int day = 1; day <= days; day++) {
+			writer.write(',');
+			writer.write(String.valueOf(day));
+		}
+		writer.write("\r\n");
+	}
+
+	@Override
+	public void writeRow(String label, String shifts) throws IOException {
+		writer.write(escape(label));
+		for (int i = 0; i < shifts.length(); i++) {
+			writer.write(',');
+			writer.write(shifts.charAt(i));
+		}
+		writer.write("\r\n");
+	}
+
+	// 응답 스트림은 컨테이너가 닫으므로 flush만 수행
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private static String escape(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+}
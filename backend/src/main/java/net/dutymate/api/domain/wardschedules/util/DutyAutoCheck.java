@@ -3,9 +3,14 @@ package net.dutymate.api.domain.wardschedules.util;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import net.dutymate.api.domain.autoschedule.Shift;
@@ -19,6 +24,12 @@ public class DutyAutoCheck {
 	private static final String NIGHT_SHIFT_VIOLATION_MESSAGE = "Night 근무 규칙을 위반했습니다.";
 	private static final String MAX_SHIFT_VIOLATION_MESSAGE = "최대 근무일 규칙을 위반했습니다.";
 	private static final String[] FORBIDDEN_PATTERNS = {"ND", "NE", "ED", "NOD", "NM", "EM", "NOM"};
+	private static final int MAX_PATTERN_LENGTH = Arrays.stream(FORBIDDEN_PATTERNS)
+		.mapToInt(String::length)
+		.max()
+		.orElse(0);
+	// 첫 글자별 금지 패턴 인덱스 (한 번의 순회로 모든 패턴을 검사하기 위함)
+	private static final int[][] PATTERNS_BY_FIRST_CHAR = compilePatterns();
 
 	public static List<WardScheduleResponseDto.Issue> check(List<WardScheduleResponseDto.NurseShifts> nurseShiftsDto,
 		Rule wardRule) {
@@ -26,16 +37,50 @@ public class DutyAutoCheck {
 		RuleResponseDto rule = RuleResponseDto.of(wardRule);
 
 		for (WardScheduleResponseDto.NurseShifts ns : nurseShiftsDto) {
-			int shiftFlags = ns.getShiftFlags();
-			List<WardScheduleResponseDto.Issue> personalIssues = checkPersonalDuty(ns, rule, shiftFlags);
-			if (!personalIssues.isEmpty()) {
-				issues.addAll(personalIssues);
+			issues.addAll(checkPersonalDuty(ns, rule, ns.getShiftFlags()));
+		}
+
+		return issues;
+	}
+
+	/**
+	 * 수정 전 근무표 조회 결과를 기준으로 근무가 바뀐 간호사만 다시 검사
+	 * 수정한 간호사가 아니어도 이전 결과와 근무, 이름, 근무 유형이 다르면 (동시 수정 등) 다시 검사한다.
+	 * 규칙이 바뀌면 조회 캐시가 무효화되므로 previous는 같은 규칙으로 만들어진 결과다.
+	 */
+	public static List<WardScheduleResponseDto.Issue> recheck(
+		List<WardScheduleResponseDto.NurseShifts> nurseShiftsDto, Rule wardRule, WardScheduleResponseDto previous,
+		Set<Long> changedMemberIds) {
+		List<WardScheduleResponseDto.Issue> issues = new ArrayList<>();
+		RuleResponseDto rule = RuleResponseDto.of(wardRule);
+
+		Map<Long, WardScheduleResponseDto.NurseShifts> previousNurseShifts = previous.getDuty().stream()
+			.collect(Collectors.toMap(WardScheduleResponseDto.NurseShifts::getMemberId, Function.identity(),
+				(first, second) -> first));
+		Map<Long, List<WardScheduleResponseDto.Issue>> previousIssues = previous.getIssues().stream()
+			.collect(Collectors.groupingBy(WardScheduleResponseDto.Issue::getMemberId));
+
+		for (WardScheduleResponseDto.NurseShifts ns : nurseShiftsDto) {
+			if (changedMemberIds.contains(ns.getMemberId())
+				|| !isSameDuty(ns, previousNurseShifts.get(ns.getMemberId()))) {
+				issues.addAll(checkPersonalDuty(ns, rule, ns.getShiftFlags()));
+			} else {
+				issues.addAll(previousIssues.getOrDefault(ns.getMemberId(), List.of()));
 			}
 		}
 
 		return issues;
 	}
 
+	private static boolean isSameDuty(WardScheduleResponseDto.NurseShifts ns,
+		WardScheduleResponseDto.NurseShifts previous) {
+		return previous != null
+			&& Objects.equals(ns.getName(), previous.getName())
+			&& Objects.equals(ns.getShiftFlags(), previous.getShiftFlags())
+			&& Objects.equals(ns.getPrevShifts(), previous.getPrevShifts())
+			&& Objects.equals(ns.getShifts(), previous.getShifts());
+	}
+
 	private static List<WardScheduleResponseDto.Issue> checkPersonalDuty(WardScheduleResponseDto.NurseShifts ns,
 		RuleResponseDto rule, int shiftFlags) {
 
@@ -209,59 +254,84 @@ public class DutyAutoCheck {
 	private static void specificPatternIssuesGenerator(Long memberId, String name, int prevShiftsDay,
 		String shifts, List<WardScheduleResponseDto.Issue> issues) {
 
-		for (String pattern : FORBIDDEN_PATTERNS) {
-			// 월 경계에 걸친 패턴 검사 (이전 달 마지막 + 현재 달 초반)
-			if (prevShiftsDay >= pattern.length() - 1) {  // 이전 달에 충분한 일수가 있는 경우
-				String boundaryShifts = shifts.substring(prevShiftsDay - (pattern.length() - 1),
-					Math.min(prevShiftsDay + pattern.length(), shifts.length()));
-				int boundaryIndex = boundaryShifts.indexOf(pattern);
-
-				if (boundaryIndex != -1 && boundaryIndex < pattern.length()) {
-					// 패턴이 월 경계에 걸쳐있는 경우
-					int patternStartInPrevMonth = (pattern.length() - 1) - boundaryIndex;
-					int daysInCurrentMonth = pattern.length() - patternStartInPrevMonth;
-
-					// 현재 달에 포함된 패턴의 마지막 문자 위치 찾기
-					int endDateOffset = 0;
-					for (int i = 0; i < daysInCurrentMonth; i++) {
-						char currentChar = pattern.charAt(patternStartInPrevMonth + i);
-						if (currentChar != 'O') {  // O가 아닌 실제 근무가 있는 날짜
-							endDateOffset = i + 1;
-						}
-					}
+		// 패턴 순서대로 결과를 내기 위해 패턴별로 모은 뒤 합침
+		List<List<WardScheduleResponseDto.Issue>> patternIssues = new ArrayList<>(FORBIDDEN_PATTERNS.length);
+		boolean[] boundaryFound = new boolean[FORBIDDEN_PATTERNS.length];
+		for (int i = 0; i < FORBIDDEN_PATTERNS.length; i++) {
+			patternIssues.add(new ArrayList<>());
+		}
 
-					issues.add(WardScheduleResponseDto.Issue.builder()
-						.memberId(memberId)
-						.name(name)
-						.startDate(1)  // 현재 달 1일부터
-						.endDate(endDateOffset)  // 실제 근무가 있는 마지막 날까지
-						.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
-						.message(pattern + "형태의 근무는 허용되지 않습니다.")
-						.build());
-				}
+		for (int index = Math.max(0, prevShiftsDay - (MAX_PATTERN_LENGTH - 1)); index < shifts.length(); index++) {
+			char shift = shifts.charAt(index);
+			if (shift >= PATTERNS_BY_FIRST_CHAR.length) {
+				continue;
 			}
 
-			// 현재 달 내의 패턴 검사
-			int index = shifts.indexOf(pattern, prevShiftsDay);
+			for (int patternIdx : PATTERNS_BY_FIRST_CHAR[shift]) {
+				String pattern = FORBIDDEN_PATTERNS[patternIdx];
+				if (!shifts.startsWith(pattern, index)) {
+					continue;
+				}
 
-			while (index != -1) {
-				int startDate = index + 1 - prevShiftsDay;
-				int endDate = index + pattern.length() - prevShiftsDay;
+				// 월 경계에 걸친 패턴 검사 (이전 달 마지막 + 현재 달 초반, 패턴별 첫 번째만)
+				if (!boundaryFound[patternIdx] && prevShiftsDay >= pattern.length() - 1
+					&& index >= prevShiftsDay - (pattern.length() - 1) && index <= prevShiftsDay) {
+					boundaryFound[patternIdx] = true;
+					patternIssues.get(patternIdx).add(boundaryIssue(memberId, name, prevShiftsDay, index, pattern));
+				}
 
-				if (endDate <= shifts.length() - prevShiftsDay) {
-					issues.add(WardScheduleResponseDto.Issue.builder()
+				// 현재 달 내의 패턴 검사
+				if (index >= prevShiftsDay) {
+					patternIssues.get(patternIdx).add(WardScheduleResponseDto.Issue.builder()
 						.memberId(memberId)
 						.name(name)
-						.startDate(startDate)
-						.endDate(endDate)
+						.startDate(index + 1 - prevShiftsDay)
+						.endDate(index + pattern.length() - prevShiftsDay)
 						.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
 						.message(pattern + "형태의 근무는 허용되지 않습니다.")
 						.build());
 				}
+			}
+		}
+
+		patternIssues.forEach(issues::addAll);
+	}
 
-				index = shifts.indexOf(pattern, index + 1);
+	private static WardScheduleResponseDto.Issue boundaryIssue(Long memberId, String name, int prevShiftsDay,
+		int index, String pattern) {
+		// 패턴이 월 경계에 걸쳐있는 경우
+		int patternStartInPrevMonth = prevShiftsDay - index;
+		int daysInCurrentMonth = pattern.length() - patternStartInPrevMonth;
+
+		// 현재 달에 포함된 패턴의 마지막 문자 위치 찾기
+		int endDateOffset = 0;
+		for (int i = 0; i < daysInCurrentMonth; i++) {
+			char currentChar = pattern.charAt(patternStartInPrevMonth + i);
+			if (currentChar != 'O') {  // O가 아닌 실제 근무가 있는 날짜
+				endDateOffset = i + 1;
 			}
 		}
+
+		return WardScheduleResponseDto.Issue.builder()
+			.memberId(memberId)
+			.name(name)
+			.startDate(1)  // 현재 달 1일부터
+			.endDate(endDateOffset)  // 실제 근무가 있는 마지막 날까지
+			.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
+			.message(pattern + "형태의 근무는 허용되지 않습니다.")
+			.build();
+	}
+
+	private static int[][] compilePatterns() {
+		int[][] patternsByFirstChar = new int[128][0];
+		for (int i = 0; i < FORBIDDEN_PATTERNS.length; i++) {
+			char first = FORBIDDEN_PATTERNS[i].charAt(0);
+			int[] patterns = patternsByFirstChar[first];
+			patterns = Arrays.copyOf(patterns, patterns.length + 1);
+			patterns[patterns.length - 1] = i;
+			patternsByFirstChar[first] = patterns;
+		}
+		return patternsByFirstChar;
 	}
 
 	private Map<Integer, Boolean> getWeekendDays(int year, int month) {
@@ -0,0 +1,30 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+	CSV("text/csv; charset=UTF-8", "csv"),
+	XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+	ICS("text/calendar; charset=UTF-8", "ics");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public static ExportFormat from(String format) {
+		for (ExportFormat exportFormat : values()) {
+			if (exportFormat.name().equalsIgnoreCase(format)) {
+				return exportFormat;
+			}
+		}
+		throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + format);
+	}
+}
@@ -0,0 +1,73 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+
+/**
+ * 근무를 iCalendar(ICS) 종일 일정으로 응답 스트림에 바로 쓰는 writer
+ * 근무일(D, E, N, M)만 일정으로 만들고, 휴무(O)와 미지정(X)은 제외한다.
+ */
+public class IcsWriter implements Closeable {
+
+	private static final String CRLF = "\r\n";
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+	private final BufferedWriter writer;
+	private final String dtStamp;
+
+	public IcsWriter(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		this.dtStamp = ZonedDateTime.now(ZoneOffset.UTC).format(DATE_TIME_FORMAT);
+	}
+
+	public void writeHeader(String calendarName) throws IOException {
+		writeLine("BEGIN:VCALENDAR");
+		writeLine("VERSION:2.0");
+		writeLine("PRODID:-//dutymate//duty//KO");
+		writeLine("CALSCALE:GREGORIAN");
+		writeLine("METHOD:PUBLISH");
+		writeLine("X-WR-CALNAME:" + calendarName);
+		writeLine("X-WR-TIMEZONE:Asia/Seoul");
+	}
+
+	public void writeMonth(Long memberId, YearMonth yearMonth, String shifts) throws IOException {
+		for (int i = 0; i < shifts.length(); i++) {
+			char shift = shifts.charAt(i);
+			if (shift == 'O' || shift == 'X') {
+				continue;
+			}
+
+			LocalDate date = yearMonth.atDay(i + 1);
+			writeLine("BEGIN:VEVENT");
+			writeLine("UID:" + memberId + "-" + date.format(DATE_FORMAT) + "@dutymate.net");
+			writeLine("DTSTAMP:" + dtStamp);
+			writeLine("DTSTART;VALUE=DATE:" + date.format(DATE_FORMAT));
+			writeLine("DTEND;VALUE=DATE:" + date.plusDays(1).format(DATE_FORMAT));
+			writeLine("SUMMARY:" + shift + " 근무");
+			writeLine("TRANSP:TRANSPARENT");
+			writeLine("END:VEVENT");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		writeLine("END:VCALENDAR");
+		writer.flush();
+	}
+
+	private void writeLine(String line) throws IOException {
+		writer.write(line);
+		writer.write(CRLF);
+	}
+}
@@ -80,6 +80,7 @@ public class InitialDutyGenerator {
 
 		return WardSchedule.builder()
 			.id(existingSchedule.getId())
+			.version(existingSchedule.getVersion())
 			.wardId(newWardMember.getWard().getWardId())
 			.year(existingSchedule.getYear())
 			.month(existingSchedule.getMonth())
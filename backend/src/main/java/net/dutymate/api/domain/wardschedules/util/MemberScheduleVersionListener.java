@@ -0,0 +1,24 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 개인 근무표가 저장되면 (병동 근무 연동, 직접 수정 등) 회원 버전 증가
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberScheduleVersionListener extends AbstractMongoEventListener<MemberSchedule> {
+
+	private final ScheduleVersionStore scheduleVersionStore;
+
+	@Override
+	public void onAfterSave(AfterSaveEvent<MemberSchedule> event) {
+		scheduleVersionStore.increaseMemberVersion(event.getSource().getMemberId());
+	}
+}
@@ -0,0 +1,54 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
+
+/**
+ * 회원 × 기간 근무 조회 결과
+ * 개인 근무표가 없는 달, 날짜는 미지정(X)으로 취급한다.
+ */
+public class MemberShiftRange {
+
+	private static final char EMPTY_SHIFT = 'X';
+
+	// memberId-year-month -> 해당 월 근무
+	private final Map<String, String> shiftsMap = new HashMap<>();
+
+	public MemberShiftRange(List<MemberSchedule> memberSchedules) {
+		for (MemberSchedule memberSchedule : memberSchedules) {
+			if (memberSchedule.getShifts() != null) {
+				shiftsMap.putIfAbsent(
+					key(memberSchedule.getMemberId(), memberSchedule.getYear(), memberSchedule.getMonth()),
+					memberSchedule.getShifts());
+			}
+		}
+	}
+
+	public char getShift(Long memberId, LocalDate date) {
+		String shifts = shiftsMap.get(key(memberId, date.getYear(), date.getMonthValue()));
+		int dayIdx = date.getDayOfMonth() - 1;
+		return shifts != null && dayIdx < shifts.length() ? shifts.charAt(dayIdx) : EMPTY_SHIFT;
+	}
+
+	// from ~ to (양 끝 포함) 기간의 근무를 이어붙인 문자열
+	public String getShifts(Long memberId, LocalDate from, LocalDate to) {
+		StringBuilder shifts = new StringBuilder();
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			shifts.append(getShift(memberId, date));
+		}
+		return shifts.toString();
+	}
+
+	public String getMonthShifts(Long memberId, YearMonth yearMonth) {
+		return getShifts(memberId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+	}
+
+	private static String key(Long memberId, int year, int month) {
+		return memberId + "-" + year + "-" + month;
+	}
+}
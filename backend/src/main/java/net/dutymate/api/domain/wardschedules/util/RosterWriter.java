@@ -0,0 +1,24 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 근무표를 표 형태(행: 간호사 또는 연월, 열: 1일 ~ 31일)로 응답 스트림에 바로 쓰는 writer
+ * 한 행씩 쓰고 버리므로 근무표 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+public interface RosterWriter extends Closeable {
+
+	void writeHeader(String label, int days) throws IOException;
+
+	void writeRow(String label, String shifts) throws IOException;
+
+	static RosterWriter of(ExportFormat format, OutputStream outputStream) {
+		return switch (format) {
+			case CSV -> new CsvRosterWriter(outputStream);
+			case XLSX -> new XlsxRosterWriter(outputStream);
+			case ICS -> throw new IllegalArgumentException("ICS는 표 형식이 아닙니다.");
+		};
+	}
+}
@@ -0,0 +1,78 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 근무표 상태 버전 관리 (조회 캐시 키, ETag에 사용)
+ * 병동 버전: 병동 근무표, 병동 멤버 정보, 규칙이 바뀌면 증가
+ * 회원 버전: 개인 근무표, 캘린더 일정이 바뀌면 증가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleVersionStore {
+
+	private static final String WARD_VERSION_KEY_PREFIX = "duty:version:ward:";
+	private static final String MEMBER_VERSION_KEY_PREFIX = "duty:version:member:";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public String getWardVersion(Long wardId) {
+		return getVersion(WARD_VERSION_KEY_PREFIX + wardId);
+	}
+
+	public String getMemberVersion(Long memberId) {
+		return getVersion(MEMBER_VERSION_KEY_PREFIX + memberId);
+	}
+
+	public void increaseWardVersion(Long wardId) {
+		if (wardId != null) {
+			increase(WARD_VERSION_KEY_PREFIX + wardId);
+		}
+	}
+
+	public void increaseMemberVersion(Long memberId) {
+		if (memberId != null) {
+			increase(MEMBER_VERSION_KEY_PREFIX + memberId);
+		}
+	}
+
+	// 버전이 없으면 현재 시각으로 시작 (Redis 초기화 후 예전 버전 값이 재사용되지 않도록)
+	private String getVersion(String key) {
+		String version = redisTemplate.opsForValue().get(key);
+		if (version != null) {
+			return version;
+		}
+
+		redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+		return redisTemplate.opsForValue().get(key);
+	}
+
+	// 즉시 한 번, 트랜잭션 안이면 커밋 후 한 번 더 증가 (커밋 전 데이터가 새 버전으로 캐시되는 것 방지)
+	private void increase(String key) {
+		increment(key);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					increment(key);
+				}
+			});
+		}
+	}
+
+	private void increment(String key) {
+		try {
+			redisTemplate.opsForValue().increment(key);
+		} catch (DataAccessException e) {
+			log.warn("[ScheduleVersion] Failed to increase version key={}", key, e);
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package net.dutymate.api.domain.wardschedules.util;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -12,11 +11,9 @@ import net.dutymate.api.domain.autoschedule.Shift;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.ward.Ward;
-import net.dutymate.api.domain.wardschedules.collections.MemberSchedule;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
-import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
-import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleProjectionService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +22,8 @@ import lombok.RequiredArgsConstructor;
 public class ShiftUtil {
 
 	private final WardScheduleRepository wardScheduleRepository;
-	private final MemberScheduleRepository memberScheduleRepository;
+	private final WardScheduleEditor wardScheduleEditor;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
 
 	// 병동 스케줄에서 Shift 조회 메서드
 	public Shift getShift(int year, int month, int date, Member member) {
@@ -64,57 +62,22 @@ public class ShiftUtil {
 	// 병동 스케줄에서 Shift 변경 메서드
 	public void changeShift(int year, int month, int date, Member member, Shift prevShift, Shift shift) {
 		Ward ward = member.getWardMember().getWard();
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), year, month)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 병동입니다."));
+		YearMonth yearMonth = new YearMonth(year, month);
 
-		// 가장 최근 스냅샷
-		List<WardSchedule.NurseShift> lastDuty = wardSchedule.getDuties().getLast().getDuty();
-		// 새로 만들 스냅샷
-		List<WardSchedule.NurseShift> newDuty = new ArrayList<>();
-		// 가장 최근 스냅샷 -> 새로 만들 스냅샷 복사 (깊은 복사)
-		lastDuty.forEach(nurseShift -> newDuty.add(WardSchedule.NurseShift.builder()
-			.memberId(nurseShift.getMemberId())
-			.shifts(nurseShift.getShifts())
-			.build()));
-
-		// 새로 만들 스냅샷에 수정사항 반영
-		String updatedShifts = null;
-		for (WardSchedule.NurseShift prev : newDuty) {
-			if (Objects.equals(prev.getMemberId(), member.getMemberId())) {
-				String before = prev.getShifts();
-				updatedShifts = before.substring(0, date - 1) + shift + before.substring(date);
-
-				prev.changeShifts(updatedShifts);
-			}
-		}
-
-		// 기존 병동 스케줄에 새로운 스냅샷 추가 및 저장
-		wardSchedule.getDuties().add(WardSchedule.Duty.builder()
-			.idx(wardSchedule.getNowIdx() + 1)
-			.duty(newDuty)
-			.history(WardSchedule.History.builder()
+		WardScheduleEditor.CellEdit cellEdit = new WardScheduleEditor.CellEdit(member.getMemberId(), date, shift,
+			WardSchedule.History.builder()
 				.memberId(member.getMemberId())
 				.name(member.getName())
 				.before(String.valueOf(prevShift))
 				.after(String.valueOf(shift))
 				.modifiedDay(date)
 				.isAutoCreated(false)
-				.build()
-			)
-			.build());
+				.build());
 
-		wardSchedule.setNowIdx(wardSchedule.getNowIdx() + 1);
-		wardScheduleRepository.save(wardSchedule);
+		// 최신 병동 스케줄에 새로운 스냅샷 추가 및 저장 (동시 수정 충돌 시 최신 상태에 재적용)
+		wardScheduleEditor.edit(ward.getWardId(), yearMonth, List.of(cellEdit));
 
-		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		YearMonth yearMonth = new YearMonth(year, month);
-		if (updatedShifts != null && yearMonth.isSameOrAfter(member.enterYearMonth())) {
-			MemberSchedule memberSchedule = memberScheduleRepository
-				.findByMemberIdAndYearAndMonth(member.getMemberId(), year, month)
-				.orElseGet(() -> WardScheduleService.createBlankMemberSchedule(member.getMemberId(), yearMonth));
-
-			memberSchedule.setShifts(updatedShifts);
-			memberScheduleRepository.save(memberSchedule);
-		}
+		// 병동 듀티 -> 개인 듀티 : 연동 요청
+		memberScheduleProjectionService.requestProjection(ward.getWardId(), yearMonth);
 	}
 }
@@ -0,0 +1,52 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+/**
+ * 근무 문자열("DDENNOOX...") <-> 4비트 압축 바이트 변환
+ * [0] 포맷 버전, [1] 일 수, [2~] 하루당 4비트 (상위 니블 먼저)
+ */
+public class ShiftsCodec {
+
+	public static final byte PACKED_V1 = 1;
+
+	private static final int HEADER_LENGTH = 2;
+	private static final String SHIFT_CODES = "DENOMX"; // 인덱스가 곧 4비트 코드
+
+	private ShiftsCodec() {
+	}
+
+	// 압축할 수 없는 문자가 있으면 null 반환 (문자열 그대로 저장)
+	public static byte[] encode(String shifts) {
+		int days = shifts.length();
+		if (days > Byte.MAX_VALUE) {
+			return null;
+		}
+
+		byte[] packed = new byte[HEADER_LENGTH + (days + 1) / 2];
+		packed[0] = PACKED_V1;
+		packed[1] = (byte)days;
+
+		for (int i = 0; i < days; i++) {
+			int code = SHIFT_CODES.indexOf(shifts.charAt(i));
+			if (code < 0) {
+				return null;
+			}
+			int shift = (i % 2 == 0) ? 4 : 0;
+			packed[HEADER_LENGTH + i / 2] |= (byte)(code << shift);
+		}
+		return packed;
+	}
+
+	public static String decode(byte[] packed) {
+		if (packed.length < HEADER_LENGTH || packed[0] != PACKED_V1) {
+			throw new IllegalArgumentException("지원하지 않는 근무 인코딩입니다.");
+		}
+
+		int days = packed[1];
+		char[] shifts = new char[days];
+		for (int i = 0; i < days; i++) {
+			int shift = (i % 2 == 0) ? 4 : 0;
+			shifts[i] = SHIFT_CODES.charAt((packed[HEADER_LENGTH + i / 2] >> shift) & 0x0F);
+		}
+		return new String(shifts);
+	}
+}
@@ -0,0 +1,29 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+/**
+ * 근무(shifts) 필드 저장 포맷 변환기
+ * 저장 시 4비트 압축 바이너리로 쓰고, 조회 시 기존 문자열 포맷과 압축 포맷을 모두 읽는다.
+ */
+public class ShiftsValueConverter implements MongoValueConverter<String, Object> {
+
+	@Override
+	public String read(Object value, MongoConversionContext context) {
+		if (value instanceof Binary binary) {
+			return ShiftsCodec.decode(binary.getData());
+		}
+		if (value instanceof byte[] bytes) {
+			return ShiftsCodec.decode(bytes);
+		}
+		return value.toString();
+	}
+
+	@Override
+	public Object write(String value, MongoConversionContext context) {
+		byte[] packed = ShiftsCodec.encode(value);
+		return packed == null ? value : new Binary(packed);
+	}
+}
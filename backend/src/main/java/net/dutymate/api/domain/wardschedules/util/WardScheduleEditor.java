@@ -0,0 +1,219 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.DutyChangeEventDto;
+import net.dutymate.api.domain.wardschedules.dto.EditDutyRequestDto;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.WardSchedulePushService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병동 스케줄 수정기 (셀 수정, 초기화, 간호사 순서, 병동 멤버 변경)
+ * 낙관적 락(version) 충돌 시, 최신 스케줄을 다시 읽어 같은 수정을 재적용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardScheduleEditor {
+
+	private static final int MAX_RETRY = 3;
+
+	private final WardScheduleRepository wardScheduleRepository;
+	private final WardSchedulePushService wardSchedulePushService;
+
+	/**
+	 * 셀 수정 목록을 최신 병동 스케줄에 적용하여 저장 (수정 1건당 스냅샷 1개 추가)
+	 */
+	public WardSchedule edit(Long wardId, YearMonth yearMonth, List<CellEdit> cellEdits) {
+		WardSchedule wardSchedule = update(wardId, yearMonth, schedule -> {
+			discardRedoSnapshots(schedule);
+			cellEdits.forEach(cellEdit -> appendSnapshot(schedule, List.of(cellEdit), cellEdit.history()));
+			return schedule;
+		}).orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표가 생성되지 않았습니다."));
+
+		// 구독 중인 병동 간호사들에게 변경된 셀 전달
+		wardSchedulePushService.publish(DutyChangeEventDto.ofCells(wardSchedule, cellEdits));
+		return wardSchedule;
+	}
+
+	/**
+	 * 여러 셀 수정을 한 번에 적용하여 저장 (스냅샷 1개 추가, 한 번에 되돌려지는 단위)
+	 */
+	public WardSchedule editBulk(Long wardId, YearMonth yearMonth, List<CellEdit> cellEdits,
+		WardSchedule.History history) {
+		WardSchedule wardSchedule = update(wardId, yearMonth, schedule -> {
+			discardRedoSnapshots(schedule);
+			appendSnapshot(schedule, cellEdits, history);
+			return schedule;
+		}).orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표가 생성되지 않았습니다."));
+
+		wardSchedulePushService.publish(DutyChangeEventDto.ofCells(wardSchedule, cellEdits));
+		return wardSchedule;
+	}
+
+	/**
+	 * 최신 병동 스케줄 전체를 수정하여 저장 (초기화, 간호사 순서, 병동 멤버 변경 등)
+	 * operation은 받은 스케줄을 수정하거나 같은 id, version으로 새로 만든 스케줄을 반환한다.
+	 * 충돌 시 다시 읽은 스케줄로 operation을 다시 실행하므로, 스케줄에서 읽는 값은 operation 안에서 구해야 한다.
+	 * 근무표가 없으면 저장하지 않고 빈 값을 반환한다.
+	 */
+	public Optional<WardSchedule> update(Long wardId, YearMonth yearMonth, UnaryOperator<WardSchedule> operation) {
+		return findWardSchedule(wardId, yearMonth)
+			.map(wardSchedule -> applyWithRetry(wardSchedule, operation));
+	}
+
+	/**
+	 * 이미 조회한 병동 스케줄로 먼저 시도하고, 충돌 시 최신 스케줄을 다시 읽어 operation 재실행
+	 */
+	public WardSchedule update(WardSchedule wardSchedule, UnaryOperator<WardSchedule> operation) {
+		return applyWithRetry(wardSchedule, operation);
+	}
+
+	private WardSchedule applyWithRetry(WardSchedule wardSchedule, UnaryOperator<WardSchedule> operation) {
+		Long wardId = wardSchedule.getWardId();
+		YearMonth yearMonth = wardSchedule.getYearMonth();
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return wardScheduleRepository.save(operation.apply(wardSchedule));
+			} catch (OptimisticLockingFailureException e) {
+				log.warn("[WardScheduleEditor] version conflict wardId={} yearMonth={} attempt={}",
+					wardId, yearMonth, attempt);
+				if (attempt >= MAX_RETRY) {
+					throw new ResponseStatusException(HttpStatus.CONFLICT,
+						"다른 사용자가 근무표를 수정하고 있습니다. 잠시 후 다시 시도해주세요.");
+				}
+			}
+
+			// 다른 요청이 저장한 최신 스케줄로 다시 시도
+			wardSchedule = findWardSchedule(wardId, yearMonth)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "근무표가 삭제되었습니다."));
+		}
+	}
+
+	private Optional<WardSchedule> findWardSchedule(Long wardId, YearMonth yearMonth) {
+		return wardScheduleRepository.findByWardIdAndYearAndMonth(wardId, yearMonth.year(), yearMonth.month());
+	}
+
+	// 히스토리 포인트로 돌아간 상태에서 수정하면, nowIdx 이후 스냅샷은 버린다.
+	private void discardRedoSnapshots(WardSchedule wardSchedule) {
+		wardSchedule.setDuties(new ArrayList<>(wardSchedule.getDuties().subList(0, wardSchedule.getNowIdx() + 1)));
+	}
+
+	// 현재 스냅샷을 기준으로 셀 수정을 반영한 새 스냅샷 추가 (수정된 간호사의 근무만 한 번씩 복사)
+	private void appendSnapshot(WardSchedule wardSchedule, List<CellEdit> cellEdits, WardSchedule.History history) {
+		int nowIdx = wardSchedule.getNowIdx();
+		int daysInMonth = wardSchedule.getYearMonth().daysInMonth();
+
+		Map<Long, List<CellEdit>> cellEditsByMemberId = cellEdits.stream()
+			.collect(Collectors.groupingBy(CellEdit::memberId));
+
+		// 가장 최근 스냅샷
+		List<WardSchedule.NurseShift> recentDuty = wardSchedule.getDuties().get(nowIdx).getDuty();
+
+		List<WardSchedule.NurseShift> newDuty = new ArrayList<>(recentDuty.size());
+		for (WardSchedule.NurseShift nurseShift : recentDuty) {
+			String shifts = nurseShift.getShifts();
+
+			List<CellEdit> memberCellEdits = cellEditsByMemberId.get(nurseShift.getMemberId());
+			if (memberCellEdits != null) {
+				char[] updatedShifts = shifts.toCharArray();
+				for (CellEdit cellEdit : memberCellEdits) {
+					if (cellEdit.day() < 1 || cellEdit.day() > daysInMonth) {
+						throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 날짜입니다.");
+					}
+					updatedShifts[cellEdit.day() - 1] = cellEdit.after().getValue().charAt(0);
+				}
+				shifts = new String(updatedShifts);
+			}
+
+			newDuty.add(WardSchedule.NurseShift.builder()
+				.memberId(nurseShift.getMemberId())
+				.shifts(shifts)
+				.build());
+		}
+
+		wardSchedule.getDuties().add(WardSchedule.Duty.builder()
+			.idx(nowIdx + 1)
+			.duty(newDuty)
+			.history(rebuildHistory(history, recentDuty))
+			.build());
+		wardSchedule.setNowIdx(nowIdx + 1);
+	}
+
+	// 수정 전 근무(before)를 요청 값 대신 실제로 수정한 스냅샷에서 다시 구함 (충돌 후 재시도 시 최신 값 반영)
+	private static WardSchedule.History rebuildHistory(WardSchedule.History history,
+		List<WardSchedule.NurseShift> recentDuty) {
+		Map<Long, String> shiftsByMemberId = recentDuty.stream()
+			.collect(Collectors.toMap(WardSchedule.NurseShift::getMemberId, WardSchedule.NurseShift::getShifts,
+				(first, second) -> first));
+
+		return WardSchedule.History.builder()
+			.memberId(history.getMemberId())
+			.name(history.getName())
+			.before(shiftAt(shiftsByMemberId, history.getMemberId(), history.getModifiedDay(), history.getBefore()))
+			.after(history.getAfter())
+			.modifiedDay(history.getModifiedDay())
+			.isAutoCreated(history.getIsAutoCreated())
+			.cells(history.getCells() == null ? null : history.getCells().stream()
+				.map(cell -> WardSchedule.Cell.builder()
+					.memberId(cell.getMemberId())
+					.day(cell.getDay())
+					.before(shiftAt(shiftsByMemberId, cell.getMemberId(), cell.getDay(), cell.getBefore()))
+					.after(cell.getAfter())
+					.build())
+				.toList())
+			.build();
+	}
+
+	private static String shiftAt(Map<Long, String> shiftsByMemberId, Long memberId, Integer day, String fallback) {
+		String shifts = shiftsByMemberId.get(memberId);
+		if (shifts == null || day == null || day < 1 || day > shifts.length()) {
+			return fallback;
+		}
+		return String.valueOf(shifts.charAt(day - 1));
+	}
+
+	/**
+	 * 셀 단위 수정 (어떤 간호사의 몇 일 근무를 무엇으로 바꾸는지)
+	 * 근무 값은 저장 전에 Shift로 검증한다. (저장 후 변경 알림 생성 시 실패하지 않도록)
+	 */
+	public record CellEdit(Long memberId, int day, Shift after, WardSchedule.History history) {
+
+		public static CellEdit of(EditDutyRequestDto.History history) {
+			return new CellEdit(history.getMemberId(), history.getModifiedDay(), toShift(history.getAfter()),
+				WardSchedule.History.builder()
+					.memberId(history.getMemberId())
+					.name(history.getName())
+					.before(history.getBefore())
+					.after(history.getAfter())
+					.modifiedDay(history.getModifiedDay())
+					.isAutoCreated(history.getIsAutoCreated())
+					.build());
+		}
+
+		private static Shift toShift(String value) {
+			return Arrays.stream(Shift.values())
+				.filter(shift -> shift.getValue().equals(value))
+				.findAny()
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 근무입니다."));
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import com.mongodb.client.result.UpdateResult;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardScheduleVersionInitializer {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * 낙관적 락 도입 이전에 저장된 병동 스케줄의 version 초기화
+	 * version이 없는 문서는 새 문서로 간주되어 insert 되므로, 요청을 받기 전에 한 번 보정한다.
+	 */
+	@PostConstruct
+	public void initializeVersion() {
+		UpdateResult result = mongoTemplate.updateMulti(
+			Query.query(Criteria.where("version").exists(false)),
+			new Update().set("version", 0L),
+			WardSchedule.class);
+
+		if (result.getModifiedCount() > 0) {
+			log.info("[WardSchedule] version initialized for {} documents", result.getModifiedCount());
+		}
+	}
+}
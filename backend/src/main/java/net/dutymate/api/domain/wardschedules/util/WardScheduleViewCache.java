@@ -0,0 +1,153 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병동 근무표 조회 결과 캐시
+ * 키: duty:view:{view}:{wardId}:{year}-{month}:v{버전}
+ * 병동의 근무표나 멤버 정보가 바뀌면 버전(ScheduleVersionStore)을 올려 이전 캐시를 모두 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardScheduleViewCache {
+
+	public static final String WARD_SCHEDULE_VIEW = "duty";
+	public static final String ALL_WARD_DUTY_VIEW = "ward";
+
+	private static final String VIEW_KEY_PREFIX = "duty:view:";
+	private static final String LOCK_KEY_SUFFIX = ":lock";
+
+	private static final Duration VIEW_TTL = Duration.ofMinutes(10);
+	private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+	private static final int LOCK_WAIT_RETRY = 10;
+	private static final long LOCK_WAIT_MILLIS = 50L;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ScheduleVersionStore scheduleVersionStore;
+
+	/**
+	 * 캐시에 있으면 반환, 없으면 loader로 만든 뒤 저장
+	 * 같은 키를 동시에 만들지 않도록 한 요청만 loader를 실행하고, 나머지는 잠시 캐시를 기다린다.
+	 * 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출하고, DB 작업은 loader 안에서 한다.
+	 */
+	public <T> T get(String view, Long wardId, YearMonth yearMonth, Class<T> type, Supplier<T> loader) {
+		String key;
+		String lockKey = null;
+		try {
+			key = viewKey(view, wardId, yearMonth, scheduleVersionStore.getWardVersion(wardId));
+			T cached = read(key, type);
+			if (cached != null) {
+				return cached;
+			}
+
+			String candidateLockKey = key + LOCK_KEY_SUFFIX;
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(candidateLockKey, "1", LOCK_TTL))) {
+				lockKey = candidateLockKey;
+			} else {
+				T awaited = awaitOtherLoader(key, type);
+				if (awaited != null) {
+					return awaited;
+				}
+			}
+		} catch (DataAccessException e) {
+			// Redis 장애 시 캐시 없이 조회
+			log.warn("[ViewCache] Redis unavailable, loading without cache: {}", e.getMessage());
+			return loader.get();
+		}
+
+		try {
+			T loaded = loader.get();
+			write(key, loaded);
+			return loaded;
+		} finally {
+			if (lockKey != null) {
+				unlock(lockKey);
+			}
+		}
+	}
+
+	/**
+	 * 캐시에 있으면 반환, 없거나 Redis 장애 시 null (캐시를 만들지 않음)
+	 */
+	public <T> T getIfPresent(String view, Long wardId, YearMonth yearMonth, Class<T> type) {
+		try {
+			return read(viewKey(view, wardId, yearMonth, scheduleVersionStore.getWardVersion(wardId)), type);
+		} catch (DataAccessException e) {
+			log.warn("[ViewCache] Redis unavailable, skipping cached view: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 병동의 모든 근무표 조회 캐시 무효화
+	 */
+	public void evictWard(Long wardId) {
+		scheduleVersionStore.increaseWardVersion(wardId);
+	}
+
+	private <T> T awaitOtherLoader(String key, Class<T> type) {
+		for (int retry = 0; retry < LOCK_WAIT_RETRY; retry++) {
+			try {
+				Thread.sleep(LOCK_WAIT_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+
+			T cached = read(key, type);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return null;
+	}
+
+	private <T> T read(String key, Class<T> type) {
+		String json = redisTemplate.opsForValue().get(key);
+		if (json == null) {
+			return null;
+		}
+
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) { // 형식이 바뀐 캐시는 무시하고 다시 생성
+			return null;
+		}
+	}
+
+	private void write(String key, Object value) {
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), VIEW_TTL);
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("[ViewCache] Failed to write view key={}", key, e);
+		}
+	}
+
+	private void unlock(String lockKey) {
+		try {
+			redisTemplate.delete(lockKey);
+		} catch (DataAccessException e) { // 잠금은 TTL로 자동 해제됨
+			log.warn("[ViewCache] Failed to release lock key={}", lockKey);
+		}
+	}
+
+	private static String viewKey(String view, Long wardId, YearMonth yearMonth, String version) {
+		return VIEW_KEY_PREFIX + view + ":" + wardId + ":" + yearMonth.year() + "-" + yearMonth.month()
+			+ ":v" + version;
+	}
+}
@@ -0,0 +1,24 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 병동 근무표가 저장되면 (수정, 자동 생성, 초기화, 멤버 추가/삭제 등) 조회 캐시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class WardScheduleViewCacheEvictListener extends AbstractMongoEventListener<WardSchedule> {
+
+	private final WardScheduleViewCache wardScheduleViewCache;
+
+	@Override
+	public void onAfterSave(AfterSaveEvent<WardSchedule> event) {
+		wardScheduleViewCache.evictWard(event.getSource().getWardId());
+	}
+}
@@ -0,0 +1,52 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+public class XlsxRosterWriter implements RosterWriter {
+
+	// 메모리에 유지하는 최대 행 수 (나머지는 임시 파일로 내보냄)
+	private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+	private final OutputStream outputStream;
+	private final SXSSFWorkbook workbook;
+	private final Sheet sheet;
+	private int rowIdx = 0;
+
+	public XlsxRosterWriter(OutputStream outputStream) {
+		this.outputStream = outputStream;
+		this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+		this.sheet = workbook.createSheet("근무표");
+	}
+
+	@Override
+	public void writeHeader(String label, int days) {
+		Row row = sheet.createRow(rowIdx++);
+		row.createCell(0).setCellValue(label);
+		for (int day = 1; day <= days; day++) {
+			row.createCell(day).setCellValue(day);
+		}
+	}
+
+	@Override
+	public void writeRow(String label, String shifts) {
+		Row row = sheet.createRow(rowIdx++);
+		row.createCell(0).setCellValue(label);
+		for (int i = 0; i < shifts.length(); i++) {
+			row.createCell(i + 1).setCellValue(String.valueOf(shifts.charAt(i)));
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			workbook.write(outputStream);
+		} finally {
+			workbook.close(); // 임시 파일 삭제
+		}
+	}
+}
@@ -43,8 +43,9 @@ public class JwtAuthenticationInterceptor implements HandlerInterceptor {
 
 		// 토큰이 유효하면 Http Request에 memberId 삽입
 		String token = jwtUtil.resolveToken(request.getHeader("Authorization"));
-		if (token != null && jwtUtil.validateToken(token)) {
-			request.setAttribute("memberId", jwtUtil.getMemberId(token));
+		Long memberId = token != null ? jwtUtil.authenticate(token) : null;
+		if (memberId != null) {
+			request.setAttribute("memberId", memberId);
 			return true;
 		}
 
@@ -0,0 +1,132 @@
+package net.dutymate.api.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증된 토큰의 로컬 캐시와 블랙리스트 로컬 사본
+ * 캐시에 있는 토큰은 서명 검증과 Redis 블랙리스트 조회 없이 인증된다.
+ * 로그아웃(블랙리스트 추가)은 Redis pub/sub 채널로 모든 서버 인스턴스에 전파되어 캐시에서 즉시 제거되며,
+ * 메시지를 놓친 경우에도 캐시 항목은 최대 LOCAL_TTL_MILLIS 후 만료되어 다시 Redis 블랙리스트를 확인한다.
+ * 모든 요청이 거치므로 전역 잠금 없이 ConcurrentHashMap만 사용하고, 크기는 저장 시 상한 확인과 주기적 정리로 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtTokenCache implements MessageListener {
+
+	private static final String CHANNEL = "jwt:blacklist";
+	private static final int MAX_CACHED_TOKENS = 10_000;
+	private static final long LOCAL_TTL_MILLIS = 60 * 1000L;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	// token -> 검증된 토큰 정보
+	private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+	// token -> 토큰 만료 시각 (블랙리스트 로컬 사본)
+	private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void subscribeChannel() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 캐시된 토큰의 memberId 반환 (없거나 만료되었으면 null)
+	public Long getMemberId(String token) {
+		CachedToken cachedToken = tokens.get(token);
+		if (cachedToken == null) {
+			return null;
+		}
+		if (cachedToken.validUntil() <= System.currentTimeMillis()) {
+			tokens.remove(token, cachedToken);
+			return null;
+		}
+		return cachedToken.memberId();
+	}
+
+	// 서명 검증과 블랙리스트 확인을 통과한 토큰 저장 (캐시가 가득 차면 다음 정리 때까지 저장하지 않음)
+	// 검증 도중 로그아웃된 토큰이 캐시에 남지 않도록 저장한 뒤 블랙리스트를 한 번 더 확인한다.
+	// (blacklistLocally는 블랙리스트에 먼저 기록한 뒤 캐시에서 제거하므로, 둘 중 하나는 반드시 상대의 기록을 본다)
+	public void put(String token, Long memberId, long expiresAt) {
+		if (tokens.size() >= MAX_CACHED_TOKENS) {
+			return;
+		}
+
+		CachedToken cachedToken =
+			new CachedToken(memberId, Math.min(expiresAt, System.currentTimeMillis() + LOCAL_TTL_MILLIS));
+		tokens.put(token, cachedToken);
+		if (isBlacklisted(token)) {
+			tokens.remove(token, cachedToken);
+		}
+	}
+
+	public boolean isBlacklisted(String token) {
+		Long expiresAt = blacklist.get(token);
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	// 이 인스턴스에 즉시 반영하고, 다른 인스턴스에 전파
+	public void addToBlacklist(String token, long expiresAt) {
+		blacklistLocally(token, expiresAt);
+		try {
+			redisTemplate.convertAndSend(CHANNEL, expiresAt + ":" + token);
+		} catch (DataAccessException e) {
+			log.warn("JWT 블랙리스트 전파 실패", e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separatorIdx = body.indexOf(':');
+		if (separatorIdx < 0) {
+			return;
+		}
+		try {
+			long expiresAt = Long.parseLong(body.substring(0, separatorIdx));
+			blacklistLocally(body.substring(separatorIdx + 1), expiresAt);
+		} catch (NumberFormatException e) {
+			log.warn("JWT 블랙리스트 메시지 형식 오류");
+		}
+	}
+
+	// 만료된 토큰은 더 이상 검증을 통과하지 못하므로 로컬 블랙리스트에서 정리
+	// 캐시는 만료 항목을 지운 뒤에도 상한을 넘으면 남은 항목을 임의로 지워 상한 이하로 유지
+	@Scheduled(fixedRate = 60_000)
+	public void removeExpired() {
+		long now = System.currentTimeMillis();
+		blacklist.values().removeIf(expiresAt -> expiresAt <= now);
+		tokens.values().removeIf(cachedToken -> cachedToken.validUntil() <= now);
+
+		Iterator<String> iterator = tokens.keySet().iterator();
+		while (tokens.size() > MAX_CACHED_TOKENS && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private void blacklistLocally(String token, long expiresAt) {
+		blacklist.put(token, expiresAt);
+		tokens.remove(token);
+	}
+
+	private record CachedToken(Long memberId, long validUntil) {
+	}
+}
@@ -23,6 +23,7 @@ public class JwtUtil {
 	private static final int TOKEN_BEGIN_INDEX = 7;
 	private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
 	private final RedisTemplate<String, String> redisTemplate;
+	private final JwtTokenCache jwtTokenCache;
 	@Value("${jwt.secret}")
 	private String secretKey;
 	@Value("${jwt.expiration}")
@@ -67,6 +68,34 @@ public class JwtUtil {
 			.compact();
 	}
 
+	// 인증 : 유효한 토큰이면 memberId, 아니면 null 반환
+	// 최근에 검증한 토큰은 로컬 캐시에서 바로 반환하여 서명 검증과 Redis 조회를 생략한다.
+	public Long authenticate(String token) {
+		Long cachedMemberId = jwtTokenCache.getMemberId(token);
+		if (cachedMemberId != null) {
+			return cachedMemberId;
+		}
+
+		try {
+			if (isBlacklisted(token)) {
+				return null;
+			}
+
+			Claims claims = Jwts.parser()
+				.verifyWith(getSigningKey())
+				.build()
+				.parseSignedClaims(token)
+				.getPayload();
+			Long memberId = claims.get("memberId", Long.class);
+			if (memberId != null) {
+				jwtTokenCache.put(token, memberId, claims.getExpiration().getTime());
+			}
+			return memberId;
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	// Token 유효성 검증
 	public boolean validateToken(String token) {
 		try {
@@ -106,10 +135,14 @@ public class JwtUtil {
 	public void addToBlacklist(String token, long remainingTimeInMillis) {
 		String key = BLACKLIST_PREFIX + token;
 		redisTemplate.opsForValue().set(key, "blocked", remainingTimeInMillis, TimeUnit.MILLISECONDS);
+		jwtTokenCache.addToBlacklist(token, System.currentTimeMillis() + remainingTimeInMillis);
 	}
 
-	// 토큰이 블랙리스트에 있는지 확인
+	// 토큰이 블랙리스트에 있는지 확인 (로컬 사본에 있으면 Redis 조회 생략)
 	public boolean isBlacklisted(String token) {
+		if (jwtTokenCache.isBlacklisted(token)) {
+			return true;
+		}
 		String key = BLACKLIST_PREFIX + token;
 		return Boolean.TRUE.equals(redisTemplate.hasKey(key));
 	}
@@ -0,0 +1,26 @@
+package net.dutymate.api.global.auth.principal;
+
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.wardmember.Role;
+import net.dutymate.api.domain.wardmember.WardMember;
+
+/**
+ * 인증된 회원의 불변 스냅샷
+ * 엔티티를 조회하지 않고도 권한, 소속 병동 확인에 쓸 수 있다. (병동 미소속이면 ward 관련 값은 null)
+ */
+public record AuthPrincipal(Long memberId, Role role, Long wardId, Integer shiftFlags, Long ruleId) {
+
+	public static AuthPrincipal of(Member member) {
+		WardMember wardMember = member.getWardMember();
+		if (wardMember == null) {
+			return new AuthPrincipal(member.getMemberId(), member.getRole(), null, null, null);
+		}
+
+		return new AuthPrincipal(member.getMemberId(), member.getRole(), wardMember.getWard().getWardId(),
+			wardMember.getShiftFlags(), wardMember.getWard().getRule().getRuleId());
+	}
+
+	public boolean hasWard() {
+		return wardId != null;
+	}
+}
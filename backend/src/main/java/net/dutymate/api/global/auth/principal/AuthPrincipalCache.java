@@ -0,0 +1,76 @@
+package net.dutymate.api.global.auth.principal;
+
+import java.time.Duration;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 회원 스냅샷 공유 캐시 (Redis, 짧은 TTL)
+ * 회원, 병동 소속 정보가 바뀌면 AuthPrincipalEvictListener가 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalCache {
+
+	private static final String KEY_PREFIX = "auth:principal:";
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 캐시에 없거나 Redis 장애이면 null
+	public AuthPrincipal get(Long memberId) {
+		try {
+			String json = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+			return json == null ? null : objectMapper.readValue(json, AuthPrincipal.class);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("인증 회원 캐시 조회 실패 memberId={}", memberId, e);
+			return null;
+		}
+	}
+
+	public void put(AuthPrincipal principal) {
+		try {
+			redisTemplate.opsForValue()
+				.set(KEY_PREFIX + principal.memberId(), objectMapper.writeValueAsString(principal), TTL);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("인증 회원 캐시 저장 실패 memberId={}", principal.memberId(), e);
+		}
+	}
+
+	// 즉시 한 번, 트랜잭션 안이면 커밋 후 한 번 더 제거 (커밋 전 정보가 다시 캐시되는 것 방지)
+	public void evict(Long memberId) {
+		if (memberId == null) {
+			return;
+		}
+
+		delete(memberId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					delete(memberId);
+				}
+			});
+		}
+	}
+
+	private void delete(Long memberId) {
+		try {
+			redisTemplate.delete(KEY_PREFIX + memberId);
+		} catch (DataAccessException e) {
+			log.warn("인증 회원 캐시 제거 실패 memberId={}", memberId, e);
+		}
+	}
+}
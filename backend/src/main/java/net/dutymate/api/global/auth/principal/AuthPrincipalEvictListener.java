@@ -0,0 +1,32 @@
+package net.dutymate.api.global.auth.principal;
+
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.wardmember.WardMember;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원(권한), 병동 소속(입장, 퇴장, 근무 유형)이 바뀌면 인증 회원 캐시 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalEvictListener {
+
+	private final AuthPrincipalCache authPrincipalCache;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChanged(Object entity) {
+		if (entity instanceof Member member) {
+			authPrincipalCache.evict(member.getMemberId());
+		} else if (entity instanceof WardMember wardMember && wardMember.getMember() != null) {
+			authPrincipalCache.evict(wardMember.getMember().getMemberId());
+		}
+	}
+}
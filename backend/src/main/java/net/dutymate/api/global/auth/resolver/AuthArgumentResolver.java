@@ -12,26 +12,37 @@ import org.springframework.web.server.ResponseStatusException;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.member.repository.MemberRepository;
 import net.dutymate.api.global.auth.annotation.Auth;
+import net.dutymate.api.global.auth.principal.AuthPrincipal;
+import net.dutymate.api.global.auth.principal.AuthPrincipalCache;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * {@code @Auth Member}, {@code @Auth AuthPrincipal} 파라미터 주입
+ * 인증 회원 스냅샷은 요청 단위(request attribute)와 공유 캐시(Redis)에 보관한다.
+ * 스냅샷이 캐시되어 있으면 Member는 지연 로딩 프록시로 주입되어, 핸들러가 실제로 사용할 때만 조회된다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
 
+	private static final String PRINCIPAL_ATTRIBUTE = "authPrincipal";
+
 	private final MemberRepository memberRepository;
+	private final AuthPrincipalCache authPrincipalCache;
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
 		boolean hasAuthAnnotation = parameter.hasParameterAnnotation(Auth.class); // @Auth 어노테이션을 갖고있는지
 		boolean hasMemberType = Member.class.isAssignableFrom(parameter.getParameterType()); // Member 타입인지
+		boolean hasPrincipalType = AuthPrincipal.class.equals(parameter.getParameterType()); // AuthPrincipal 타입인지
 
-		return hasAuthAnnotation && hasMemberType;
+		return hasAuthAnnotation && (hasMemberType || hasPrincipalType);
 	}
 
 	@Override
-	public Member resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 		Auth annotation = parameter.getParameterAnnotation(Auth.class);
 
@@ -46,7 +57,40 @@ public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
 		// Http request 객체에서 memberId 추출
 		Long memberId = (Long)request.getAttribute("memberId");
 
+		// 인증 회원 스냅샷 반환
+		if (AuthPrincipal.class.equals(parameter.getParameterType())) {
+			AuthPrincipal principal = getCachedPrincipal(request, memberId);
+			return principal != null ? principal : cachePrincipal(request, findMember(memberId));
+		}
+
+		// 스냅샷이 있으면 (존재하는 회원) 엔티티는 실제 사용 시점에 조회
+		if (getCachedPrincipal(request, memberId) != null) {
+			return memberRepository.getReferenceById(memberId);
+		}
+
 		// Member 엔티티 반환
+		Member member = findMember(memberId);
+		cachePrincipal(request, member);
+		return member;
+	}
+
+	private AuthPrincipal getCachedPrincipal(HttpServletRequest request, Long memberId) {
+		AuthPrincipal principal = (AuthPrincipal)request.getAttribute(PRINCIPAL_ATTRIBUTE);
+		if (principal == null) {
+			principal = authPrincipalCache.get(memberId);
+			request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+		}
+		return principal;
+	}
+
+	private AuthPrincipal cachePrincipal(HttpServletRequest request, Member member) {
+		AuthPrincipal principal = AuthPrincipal.of(member);
+		authPrincipalCache.put(principal);
+		request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+		return principal;
+	}
+
+	private Member findMember(Long memberId) {
 		return memberRepository.findById(memberId).orElseThrow(
 			() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 회원입니다."));
 	}
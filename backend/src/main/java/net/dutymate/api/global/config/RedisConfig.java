@@ -8,8 +8,15 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import net.dutymate.api.global.metrics.QueryCounter;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+
 @Configuration
 public class RedisConfig {
 
@@ -33,7 +40,20 @@ public class RedisConfig {
 		}
 
 		LettuceClientConfiguration clientConfig = clientConfigBuilder.build();
-		return new LettuceConnectionFactory(redisConfig, clientConfig);
+		return new LettuceConnectionFactory(redisConfig, clientConfig) {
+			// 요청별 Redis 명령 수 집계
+			@Override
+			protected AbstractRedisClient createClient() {
+				AbstractRedisClient client = super.createClient();
+				client.addListener(new CommandListener() {
+					@Override
+					public void commandStarted(CommandStartedEvent event) {
+						QueryCounter.increment(QueryCounter.Type.REDIS);
+					}
+				});
+				return client;
+			}
+		};
 	}
 
 	@Bean
@@ -44,4 +64,12 @@ public class RedisConfig {
 		template.setValueSerializer(new StringRedisSerializer());
 		return template;
 	}
+
+	// Redis pub/sub 구독 (근무표 변경 알림 등)
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
 }
@@ -1,5 +1,7 @@
 package net.dutymate.api.global.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +10,9 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class S3Config {
@@ -21,13 +26,35 @@ public class S3Config {
 	@Value("${cloud.aws.region.static}")
 	private String region;
 
+	// 로컬 S3 호환 저장소(MinIO, LocalStack 등) 사용 시 주소 (비어 있으면 AWS)
+	@Value("${cloud.aws.s3.endpoint:}")
+	private String endpoint;
+
 	@Bean
 	public S3Client s3Client() {
 		AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-		return S3Client.builder()
+		S3ClientBuilder builder = S3Client.builder()
+			.region(Region.of(region))
+			.credentialsProvider(StaticCredentialsProvider.create(awsCredentials));
+		if (!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
+	}
+
+	// 클라이언트 직접 업로드용 URL 서명 (PresignedUploadService)
+	@Bean
+	public S3Presigner s3Presigner() {
+		AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+		S3Presigner.Builder builder = S3Presigner.builder()
 			.region(Region.of(region))
-			.credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-			.build();
+			.credentialsProvider(StaticCredentialsProvider.create(awsCredentials));
+		if (!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint))
+				.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+		}
+		return builder.build();
 	}
 }
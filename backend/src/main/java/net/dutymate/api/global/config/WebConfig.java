@@ -10,6 +10,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import net.dutymate.api.global.auth.jwt.JwtAuthenticationInterceptor;
 import net.dutymate.api.global.auth.resolver.AuthArgumentResolver;
+import net.dutymate.api.global.metrics.QueryBudgetInterceptor;
+import net.dutymate.api.global.metrics.RequestMetricsInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +21,8 @@ public class WebConfig implements WebMvcConfigurer {
 
 	private final AuthArgumentResolver authArgumentResolver;
 	private final JwtAuthenticationInterceptor jwtAuthenticationInterceptor;
+	private final RequestMetricsInterceptor requestMetricsInterceptor;
+	private final QueryBudgetInterceptor queryBudgetInterceptor;
 
 	private final String[] excludePath = {
 		"/error",
@@ -29,7 +33,8 @@ public class WebConfig implements WebMvcConfigurer {
 		"/api/news",
 		"/api/holiday/update",
 		"/api/log/**",
-		"/api/member/auto-gen-cnt"
+		"/api/member/auto-gen-cnt",
+		"/api/duty/ics/*"                              // 캘린더 앱 구독 (토큰으로 인증)
 	};
 
 	@Override
@@ -38,12 +43,19 @@ public class WebConfig implements WebMvcConfigurer {
 			.allowedOriginPatterns("http://localhost:5173", "https://dutymate.net", "https://www.dutymate.net")
 			.allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
 			.allowedHeaders("*")
+			.exposedHeaders("ETag") // 조건부 조회(If-None-Match)에 사용
 			.allowCredentials(true)
 			.maxAge(3600);
 	}
 
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
+		// 인증 실패(401) 응답, 인증 중 조회도 측정되도록 인증 인터셉터보다 먼저 등록
+		registry.addInterceptor(requestMetricsInterceptor)
+			.addPathPatterns("/**");
+		registry.addInterceptor(queryBudgetInterceptor)
+			.addPathPatterns("/**");
+
 		registry.addInterceptor(jwtAuthenticationInterceptor)
 			.addPathPatterns("/**") // 인터셉터를 적용할 URL 패턴 (모든 경로 적용)
 			.excludePathPatterns(excludePath); // 인터셉터 적용을 제외할 URL 패턴
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -54,6 +55,19 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(body, ex.getStatusCode());
 	}
 
+	// 동시 수정 충돌 예외 처리 (낙관적 락)
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	protected ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+		log.warn("[ CONFLICT ] {}", ex.getMessage());
+
+		Map<String, Object> body = new HashMap<>();
+		body.put(TIMESTAMP_KEY, LocalDateTime.now());
+		body.put(STATUS_KEY, HttpStatus.CONFLICT.name());
+		body.put(MESSAGE_KEY, "다른 사용자가 먼저 수정했습니다. 새로고침 후 다시 시도해주세요.");
+
+		return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+	}
+
 	// Spring Validation 예외 처리
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<?> handleMethodArgumentNotValid(MethodArgumentNotValidException exception) {
@@ -0,0 +1,21 @@
+package net.dutymate.api.global.metrics;
+
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+/**
+ * JDBC 실행 수 집계 (p6spy 이벤트 리스너로 등록)
+ */
+@Component
+public class JdbcQueryCountListener extends JdbcEventListener {
+
+	@Override
+	public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+		SQLException e) {
+		QueryCounter.increment(QueryCounter.Type.JDBC);
+	}
+}
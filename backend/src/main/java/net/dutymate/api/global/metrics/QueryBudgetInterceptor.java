@@ -0,0 +1,97 @@
+package net.dutymate.api.global.metrics;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청별 JDBC, Mongo, Redis 명령 수 측정 (actuator /prometheus 로 노출)
+ * 명령 수가 예산을 넘으면 경고 로그를 남긴다. (N+1 조회 탐지용)
+ * 비동기 응답(SSE, 스트리밍)은 핸들러 스레드에서 실행된 명령까지만 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String METRIC_NAME = "dutymate.request.queries";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${metrics.query-budget.jdbc:20}")
+	private int jdbcBudget;
+
+	@Value("${metrics.query-budget.mongo:10}")
+	private int mongoBudget;
+
+	@Value("${metrics.query-budget.redis:20}")
+	private int redisBudget;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		// 비동기 재디스패치는 이미 측정이 끝난 요청
+		if (request.getDispatcherType() != DispatcherType.ASYNC) {
+			QueryCounter.start();
+		}
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		record(request, handler, QueryCounter.stop());
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		record(request, handler, QueryCounter.stop());
+	}
+
+	private void record(HttpServletRequest request, Object handler, QueryCounter.QueryCount queryCount) {
+		if (queryCount == null || !(handler instanceof HandlerMethod handlerMethod)) {
+			return;
+		}
+
+		String className = handlerMethod.getBeanType().getSimpleName();
+		String methodName = handlerMethod.getMethod().getName();
+
+		boolean overBudget = false;
+		for (QueryCounter.Type type : QueryCounter.Type.values()) {
+			int count = queryCount.get(type);
+			DistributionSummary.builder(METRIC_NAME)
+				.description("요청당 DB 명령 수")
+				.tag("class", className)
+				.tag("method", methodName)
+				.tag("type", type.name().toLowerCase(Locale.ROOT))
+				.register(meterRegistry)
+				.record(count);
+			overBudget |= count > getBudget(type);
+		}
+
+		if (overBudget) {
+			log.warn("type=QUERY_BUDGET class={} method={} httpMethod={} path={} jdbc={} mongo={} redis={}",
+				className, methodName, request.getMethod(), request.getRequestURI(),
+				queryCount.jdbc(), queryCount.mongo(), queryCount.redis());
+		}
+	}
+
+	private int getBudget(QueryCounter.Type type) {
+		return switch (type) {
+			case JDBC -> jdbcBudget;
+			case MONGO -> mongoBudget;
+			case REDIS -> redisBudget;
+		};
+	}
+}
@@ -0,0 +1,26 @@
+package net.dutymate.api.global.metrics;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * Mongo 명령 수 집계 리스너 등록
+ * (JDBC는 JdbcQueryCountListener, Redis는 RedisConfig에서 등록)
+ */
+@Configuration
+public class QueryCountConfig {
+
+	@Bean
+	public MongoClientSettingsBuilderCustomizer mongoQueryCountCustomizer() {
+		return builder -> builder.addCommandListener(new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				QueryCounter.increment(QueryCounter.Type.MONGO);
+			}
+		});
+	}
+}
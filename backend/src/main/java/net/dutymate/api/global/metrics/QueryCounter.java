@@ -0,0 +1,74 @@
+package net.dutymate.api.global.metrics;
+
+/**
+ * 현재 스레드(요청)에서 실행된 JDBC, Mongo, Redis 명령 수 집계
+ * 집계 범위 밖(start 이전, 비동기 스레드)에서 실행된 명령은 세지 않는다.
+ */
+public final class QueryCounter {
+
+	private static final ThreadLocal<int[]> COUNTS = new ThreadLocal<>();
+
+	private QueryCounter() {
+	}
+
+	public enum Type {
+		JDBC, MONGO, REDIS
+	}
+
+	public record QueryCount(int jdbc, int mongo, int redis) {
+
+		public int get(Type type) {
+			return switch (type) {
+				case JDBC -> jdbc;
+				case MONGO -> mongo;
+				case REDIS -> redis;
+			};
+		}
+	}
+
+	public static void start() {
+		COUNTS.set(new int[Type.values().length]);
+	}
+
+	// 집계를 끝내고 결과 반환 (집계 중이 아니었으면 null)
+	public static QueryCount stop() {
+		int[] counts = COUNTS.get();
+		COUNTS.remove();
+		return counts == null ? null : toQueryCount(counts);
+	}
+
+	public static void increment(Type type) {
+		int[] counts = COUNTS.get();
+		if (counts != null) {
+			counts[type.ordinal()]++;
+		}
+	}
+
+	/**
+	 * 작업 하나에서 실행된 명령 수 측정 (서비스 메서드 쿼리 수 확인용)
+	 * 요청 집계 중에 호출되면 측정한 명령도 요청 집계에 더해진다.
+	 */
+	public static QueryCount measure(Runnable task) {
+		int[] outer = COUNTS.get();
+		int[] counts = new int[Type.values().length];
+		COUNTS.set(counts);
+		try {
+			task.run();
+		} finally {
+			if (outer == null) {
+				COUNTS.remove();
+			} else {
+				for (int i = 0; i < counts.length; i++) {
+					outer[i] += counts[i];
+				}
+				COUNTS.set(outer);
+			}
+		}
+		return toQueryCount(counts);
+	}
+
+	private static QueryCount toQueryCount(int[] counts) {
+		return new QueryCount(counts[Type.JDBC.ordinal()], counts[Type.MONGO.ordinal()],
+			counts[Type.REDIS.ordinal()]);
+	}
+}
@@ -0,0 +1,91 @@
+package net.dutymate.api.global.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨트롤러 메서드별 응답 시간 측정 (actuator /prometheus 로 노출)
+ * 요청 로그는 느린 요청, 5xx 응답은 항상, 나머지는 sample-rate 비율로만 남긴다.
+ * 비동기로 시작된 요청(SSE, 스트리밍)은 연결 유지 시간이 응답 시간으로 잡히므로 측정하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String METRIC_NAME = "dutymate.controller.requests";
+	private static final String START_TIME_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".startTime";
+	private static final String NONE = "none";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${metrics.request-log.sample-rate:0.01}")
+	private double sampleRate;
+
+	@Value("${metrics.request-log.slow-threshold-ms:1000}")
+	private long slowThresholdMillis;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		// 비동기 요청의 재디스패치는 측정하지 않음 (afterConcurrentHandlingStarted 에서 시작 시각 제거)
+		if (request.getDispatcherType() != DispatcherType.ASYNC) {
+			request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		request.removeAttribute(START_TIME_ATTRIBUTE);
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		Long startTime = (Long)request.getAttribute(START_TIME_ATTRIBUTE);
+		if (startTime == null || !(handler instanceof HandlerMethod handlerMethod)) {
+			return;
+		}
+
+		long durationNanos = System.nanoTime() - startTime;
+		String className = handlerMethod.getBeanType().getSimpleName();
+		String methodName = handlerMethod.getMethod().getName();
+		int status = response.getStatus();
+		// @ExceptionHandler 로 처리된 예외는 ex 로 넘어오지 않고 요청 속성으로만 남음
+		Exception exception = ex != null ? ex : (Exception)request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+
+		Timer.builder(METRIC_NAME)
+			.description("컨트롤러 메서드 응답 시간")
+			.tag("class", className)
+			.tag("method", methodName)
+			.tag("status", String.valueOf(status))
+			.tag("exception", exception == null ? NONE : exception.getClass().getSimpleName())
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(durationNanos, TimeUnit.NANOSECONDS);
+
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+		if (status >= 500 || durationMillis >= slowThresholdMillis) {
+			log.warn("type=RESPONSE class={} method={} httpMethod={} path={} status={} duration={}ms",
+				className, methodName, request.getMethod(), request.getRequestURI(), status, durationMillis, exception);
+		} else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			log.info("type=RESPONSE class={} method={} httpMethod={} path={} status={} duration={}ms",
+				className, methodName, request.getMethod(), request.getRequestURI(), status, durationMillis);
+		}
+	}
+}
@@ -2,13 +2,23 @@ package net.dutymate.api.global.scheduler;
 
 import java.time.LocalDate;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import net.dutymate.api.domain.community.service.BoardCurationService;
+import net.dutymate.api.domain.community.service.BoardSearchIndexService;
+import net.dutymate.api.domain.community.service.BoardService;
+import net.dutymate.api.domain.community.service.BoardUniqueKeyService;
+import net.dutymate.api.domain.community.service.BoardViewCountService;
 import net.dutymate.api.domain.community.service.NewsService;
 import net.dutymate.api.domain.holiday.service.HolidayService;
 import net.dutymate.api.domain.member.service.LoginLogService;
 import net.dutymate.api.domain.member.service.MemberService;
+import net.dutymate.api.domain.wardschedules.service.MemberScheduleProjectionService;
+import net.dutymate.api.domain.wardschedules.service.ShiftsEncodingMigrationService;
+import net.dutymate.api.domain.wardschedules.service.WardScheduleCompactionService;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +33,14 @@ public class BatchScheduler {
 	private final LoginLogService loginLogService;
 	private final HolidayService holidayService;
 	private final NewsService newsService;
+	private final MemberScheduleProjectionService memberScheduleProjectionService;
+	private final WardScheduleCompactionService wardScheduleCompactionService;
+	private final ShiftsEncodingMigrationService shiftsEncodingMigrationService;
+	private final BoardService boardService;
+	private final BoardViewCountService boardViewCountService;
+	private final BoardCurationService boardCurationService;
+	private final BoardSearchIndexService boardSearchIndexService;
+	private final BoardUniqueKeyService boardUniqueKeyService;
 
 	/**
 	 * 데모 회원 삭제
@@ -123,4 +141,201 @@ public class BatchScheduler {
 		}
 	}
 
+	/**
+	 * 저장된 최신 뉴스 요약을 메모리 캐시에 반영 (다른 인스턴스가 갱신한 요약 포함)
+	 * 실행 주기: 서버 시작 시, 이후 이전 실행 종료 5분 후
+	 * 인스턴스마다 자기 캐시를 갱신해야 하므로 실행 중에만 잠금을 잡는다. (lockAtLeastFor 없음)
+	 * 실행 시각이 인스턴스 시작 시각 기준이라 잠금이 겹치는 경우는 드물고, 겹쳐서 건너뛰어도 다음 주기에 반영된다.
+	 */
+	@Scheduled(fixedDelay = 5 * 60 * 1000)
+	@SchedulerLock(
+		name = "loadLatestNews",
+		lockAtMostFor = "1m",
+		lockAtLeastFor = "0s"
+	)
+	public void loadLatestNews() {
+		try {
+			newsService.loadLatestNews();
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to load latest news", e);
+		}
+	}
+
+	/**
+	 * 처리되지 못한 병동 -> 개인 스케줄 연동 대기열 처리
+	 * 실행 주기: 매분 정각
+	 */
+	@Scheduled(cron = "0 * * * * *")
+	@SchedulerLock(
+		name = "processMemberScheduleOutbox",
+		lockAtMostFor = "50s",
+		lockAtLeastFor = "10s"
+	)
+	public void processMemberScheduleOutbox() {
+		try {
+			memberScheduleProjectionService.processPending();
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to process member schedule outbox", e);
+		}
+	}
+
+	/**
+	 * 지난 근무표 히스토리 압축 및 보관
+	 * 실행 주기: 매일 3시 (KST)
+	 */
+	@Scheduled(cron = "0 0 3 * * *")
+	@SchedulerLock(
+		name = "compactWardSchedules",
+		lockAtMostFor = "30m",
+		lockAtLeastFor = "5m"
+	)
+	public void compactWardSchedules() {
+		try {
+			log.info("[Scheduler] Compact ward schedules started");
+			int compactedCnt = wardScheduleCompactionService.compactOldSchedules();
+			log.info("[Scheduler] Compacted {} ward schedules", compactedCnt);
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to compact ward schedules", e);
+		}
+	}
+
+	/**
+	 * 문자열로 저장된 근무를 압축 포맷으로 변환
+	 * 실행 주기: 매일 4시 (KST)
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	@SchedulerLock(
+		name = "migrateShiftsEncoding",
+		lockAtMostFor = "30m",
+		lockAtLeastFor = "5m"
+	)
+	public void migrateShiftsEncoding() {
+		try {
+			log.info("[Scheduler] Migrate shifts encoding started");
+			int wardScheduleCnt = shiftsEncodingMigrationService.migrateWardSchedules();
+			int memberScheduleCnt = shiftsEncodingMigrationService.migrateMemberSchedules();
+			log.info("[Scheduler] Migrated shifts encoding for {} ward schedules and {} member schedules",
+				wardScheduleCnt, memberScheduleCnt);
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to migrate shifts encoding", e);
+		}
+	}
+
+	/**
+	 * 게시글 댓글 수 보정 (컬럼 추가 전 게시글, 회원 탈퇴로 함께 삭제된 댓글 반영)
+	 * 실행 주기: 서버 시작 시, 매일 4시 30분 (KST)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 30 4 * * *")
+	@SchedulerLock(
+		name = "reconcileBoardCommentCnt",
+		lockAtMostFor = "10m",
+		lockAtLeastFor = "1m"
+	)
+	public void reconcileBoardCommentCnt() {
+		try {
+			log.info("[Scheduler] Reconcile board comment count started");
+			int reconciledCnt = boardService.reconcileCommentCnt();
+			log.info("[Scheduler] Reconciled comment count for {} boards", reconciledCnt);
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to reconcile board comment count", e);
+		}
+	}
+
+	/**
+	 * Redis에 모인 게시글 조회수를 DB에 반영
+	 * 실행 주기: 매분 30초
+	 */
+	@Scheduled(cron = "30 * * * * *")
+	@SchedulerLock(
+		name = "flushBoardViewCnt",
+		lockAtMostFor = "50s",
+		lockAtLeastFor = "10s"
+	)
+	public void flushBoardViewCnt() {
+		try {
+			boardViewCountService.flush();
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to flush board view count", e);
+		}
+	}
+
+	/**
+	 * 추천 게시글 랭킹 재계산 (시간 감쇠 반영)
+	 * 실행 주기: 서버 시작 시, 10분마다
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 */10 * * * *")
+	@SchedulerLock(
+		name = "refreshBoardCuration",
+		lockAtMostFor = "5m",
+		lockAtLeastFor = "1m"
+	)
+	public void refreshBoardCuration() {
+		try {
+			boardCurationService.refreshRankings();
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to refresh board curation", e);
+		}
+	}
+
+	/**
+	 * 게시글/댓글 검색 인덱스 생성 (없는 경우만)
+	 * 실행 주기: 서버 시작 시
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@SchedulerLock(
+		name = "createBoardSearchIndexes",
+		lockAtMostFor = "30m",
+		lockAtLeastFor = "1m"
+	)
+	public void createBoardSearchIndexes() {
+		try {
+			int createdCnt = boardSearchIndexService.createIndexes();
+			log.info("[Scheduler] Created {} board search indexes", createdCnt);
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to create board search indexes", e);
+		}
+	}
+
+	/**
+	 * 좋아요/인기글 유니크 키 확인 (없으면 중복 정리 후 생성)
+	 * 실행 주기: 서버 시작 시
+	 * 키를 만들 수 없으면 중복 데이터가 계속 쌓이므로 서버 시작을 실패시킨다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@SchedulerLock(
+		name = "createBoardUniqueKeys",
+		lockAtMostFor = "30m",
+		lockAtLeastFor = "1m"
+	)
+	public void createBoardUniqueKeys() {
+		try {
+			int createdCnt = boardUniqueKeyService.createUniqueKeys();
+			log.info("[Scheduler] Created {} board unique keys", createdCnt);
+		} catch (RuntimeException e) {
+			log.error("[Scheduler] Failed to create board unique keys", e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 인기글 목록 읽기 모델을 게시글, 작성자와 다시 맞춤
+	 * 실행 주기: 서버 시작 시, 10분마다 (5분 오프셋)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "0 5/10 * * * *")
+	@SchedulerLock(
+		name = "syncHotBoards",
+		lockAtMostFor = "5m",
+		lockAtLeastFor = "1m"
+	)
+	public void syncHotBoards() {
+		try {
+			boardService.syncHotBoards();
+		} catch (Exception e) {
+			log.error("[Scheduler] Failed to sync hot boards", e);
+		}
+	}
+
 }
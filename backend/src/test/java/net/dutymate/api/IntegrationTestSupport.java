@@ -0,0 +1,43 @@
+package net.dutymate.api;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * MySQL, MongoDB, Redis(Valkey) 컨테이너를 사용하는 통합 테스트
+ * 컨테이너는 테스트 클래스 전체에서 한 번만 띄운다. (Docker 필요)
+ */
+@SpringBootTest
+public abstract class IntegrationTestSupport {
+
+	private static final int REDIS_PORT = 6379;
+
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("dutymate");
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+	private static final GenericContainer<?> REDIS = new GenericContainer<>("valkey/valkey:8")
+		.withExposedPorts(REDIS_PORT);
+
+	static {
+		MYSQL.start();
+		MONGO.start();
+		REDIS.start();
+	}
+
+	@DynamicPropertySource
+	static void containerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+		registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+		registry.add("spring.data.mongodb.uri", () -> MONGO.getReplicaSetUrl("dutymate"));
+		registry.add("spring.data.mongodb.database", () -> "dutymate");
+		registry.add("spring.data.redis.host", REDIS::getHost);
+		registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(REDIS_PORT));
+		registry.add("spring.data.redis.ssl.enabled", () -> false);
+	}
+}
@@ -0,0 +1,126 @@
+package net.dutymate.api.domain.community.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import net.dutymate.api.IntegrationTestSupport;
+import net.dutymate.api.domain.community.Board;
+import net.dutymate.api.domain.community.Category;
+import net.dutymate.api.domain.community.Comment;
+import net.dutymate.api.domain.community.service.BoardSearchIndexService;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.member.service.MemberService;
+
+/**
+ * 게시글 전문 검색 쿼리 검증 (FULLTEXT ngram 인덱스)
+ * 컨테이너 DB를 다른 테스트와 같이 쓰므로 테스트마다 고유한 검색어를 게시글에 넣어 구분한다.
+ */
+class BoardRepositoryTest extends IntegrationTestSupport {
+
+	private static final int LIMIT = 10;
+
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private BoardSearchIndexService boardSearchIndexService;
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Member member;
+	private String keyword;
+
+	@BeforeEach
+	void setUp() {
+		boardSearchIndexService.createIndexes();
+		member = memberRepository.findById(memberService.demoLogin().getMemberId()).orElseThrow();
+		keyword = "kw" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	@Test
+	@DisplayName("제목/내용 또는 댓글에 검색어가 있는 게시글 조회")
+	void searchTitleContentAndComment() {
+		Long titleBoardId = saveBoard(keyword + " 제목", "내용", Category.DAILY);
+		Long contentBoardId = saveBoard("제목", "내용 " + keyword, Category.QNA);
+		Long commentBoardId = saveBoard("제목", "내용", Category.INFO);
+		Long otherBoardId = saveBoard("제목", "내용", Category.DAILY);
+		saveComment(commentBoardId, "댓글 " + keyword);
+		saveComment(otherBoardId, "댓글");
+
+		assertThat(search(null, false)).containsExactlyInAnyOrder(titleBoardId, contentBoardId, commentBoardId);
+	}
+
+	@Test
+	@DisplayName("같은 게시글이 제목과 여러 댓글에 일치해도 한 번만 조회")
+	void searchGroupsByBoard() {
+		Long boardId = saveBoard(keyword, keyword, Category.DAILY);
+		saveComment(boardId, keyword);
+		saveComment(boardId, keyword + " 다시");
+
+		assertThat(search(null, false)).containsExactly(boardId);
+	}
+
+	@Test
+	@DisplayName("카테고리, 인기글 조건 적용")
+	void searchWithCategoryAndHotOnly() {
+		Long dailyBoardId = saveBoard(keyword, "내용", Category.DAILY);
+		Long hotBoardId = saveBoard(keyword, "내용", Category.QNA);
+		jdbcTemplate.update("INSERT INTO hot_board (board_id, upload_at_hot_board) VALUES (?, NOW())", hotBoardId);
+
+		assertThat(search(Category.DAILY.name(), false)).containsExactly(dailyBoardId);
+		assertThat(search(null, true)).containsExactly(hotBoardId);
+	}
+
+	@Test
+	@DisplayName("limit, offset으로 페이지 조회")
+	void searchPage() {
+		for (int i = 0; i < 3; i++) {
+			saveBoard(keyword, "내용", Category.DAILY);
+		}
+
+		List<Long> all = search(null, false);
+		assertThat(all).hasSize(3);
+		assertThat(boardRepository.searchBoardIds("+" + keyword, null, false, 2, 1))
+			.containsExactlyElementsOf(all.subList(1, 3));
+	}
+
+	private List<Long> search(String category, boolean hotOnly) {
+		return boardRepository.searchBoardIds("+" + keyword, category, hotOnly, LIMIT, 0);
+	}
+
+	private Long saveBoard(String title, String content, Category category) {
+		return boardRepository.save(Board.builder()
+			.member(member)
+			.title(title)
+			.content(content)
+			.category(category)
+			.viewCnt(0)
+			.likesCntLow(0)
+			.likesCntMid(0)
+			.likesCntHigh(0)
+			.commentCnt(0)
+			.build()).getBoardId();
+	}
+
+	private void saveComment(Long boardId, String content) {
+		commentRepository.save(Comment.builder()
+			.board(boardRepository.findById(boardId).orElseThrow())
+			.member(member)
+			.content(content)
+			.build());
+	}
+}
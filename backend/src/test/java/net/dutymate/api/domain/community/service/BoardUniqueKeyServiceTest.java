@@ -0,0 +1,103 @@
+package net.dutymate.api.domain.community.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import net.dutymate.api.IntegrationTestSupport;
+import net.dutymate.api.domain.community.Board;
+import net.dutymate.api.domain.community.Category;
+import net.dutymate.api.domain.community.repository.BoardRepository;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.member.service.MemberService;
+
+/**
+ * 좋아요/인기글 유니크 키 생성 검증
+ * 키가 없던 시절에 쌓인 중복을 재현하기 위해 키를 지운 뒤 중복 행을 넣는다.
+ */
+class BoardUniqueKeyServiceTest extends IntegrationTestSupport {
+
+	// 외래 키가 유니크 키를 인덱스로 쓰고 있으므로 일반 인덱스를 먼저 추가한 뒤 유니크 키 삭제
+	private static final String DROP_LIKES_UNIQUE_KEY_SQL = "ALTER TABLE board_likes "
+		+ "ADD INDEX idx_test_board_likes_board_id (board_id), DROP INDEX uk_board_likes_board_member";
+	private static final String DROP_HOT_BOARD_UNIQUE_KEY_SQL = "ALTER TABLE hot_board "
+		+ "ADD INDEX idx_test_hot_board_board_id (board_id), DROP INDEX uk_hot_board_board_id";
+
+	private static final String INSERT_LIKE_SQL = "INSERT INTO board_likes (board_id, member_id) VALUES (?, ?)";
+	private static final String INSERT_HOT_BOARD_SQL =
+		"INSERT INTO hot_board (board_id, upload_at_hot_board) VALUES (?, NOW())";
+
+	@Autowired
+	private BoardUniqueKeyService boardUniqueKeyService;
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long memberId;
+	private Long boardId;
+
+	@BeforeEach
+	void setUp() {
+		memberId = memberService.demoLogin().getMemberId();
+		boardId = boardRepository.save(Board.builder()
+			.member(memberRepository.findById(memberId).orElseThrow())
+			.title("좋아요")
+			.content("좋아요")
+			.category(Category.DAILY)
+			.viewCnt(0)
+			.likesCntLow(0)
+			.likesCntMid(0)
+			.likesCntHigh(0)
+			.commentCnt(0)
+			.build()).getBoardId();
+	}
+
+	@Test
+	@DisplayName("키가 없으면 중복을 정리하고 좋아요 수를 다시 센 뒤 키 생성")
+	void createUniqueKeysAfterDeduplication() {
+		jdbcTemplate.execute(DROP_LIKES_UNIQUE_KEY_SQL);
+		jdbcTemplate.execute(DROP_HOT_BOARD_UNIQUE_KEY_SQL);
+
+		// 동시 요청으로 같은 좋아요 3건, 같은 인기글 2건이 들어간 상태 (데모 회원은 10년차)
+		for (int i = 0; i < 3; i++) {
+			jdbcTemplate.update(INSERT_LIKE_SQL, boardId, memberId);
+		}
+		jdbcTemplate.update("UPDATE board SET likes_cnt_high = 3 WHERE board_id = ?", boardId);
+		jdbcTemplate.update(INSERT_HOT_BOARD_SQL, boardId);
+		jdbcTemplate.update(INSERT_HOT_BOARD_SQL, boardId);
+
+		assertThat(boardUniqueKeyService.createUniqueKeys()).isEqualTo(2);
+
+		assertThat(count("SELECT COUNT(*) FROM board_likes WHERE board_id = ?")).isEqualTo(1);
+		assertThat(count("SELECT likes_cnt_high FROM board WHERE board_id = ?")).isEqualTo(1);
+		assertThat(count("SELECT COUNT(*) FROM hot_board WHERE board_id = ?")).isEqualTo(1);
+
+		assertThatThrownBy(() -> jdbcTemplate.update(INSERT_LIKE_SQL, boardId, memberId))
+			.isInstanceOf(DuplicateKeyException.class);
+		assertThatThrownBy(() -> jdbcTemplate.update(INSERT_HOT_BOARD_SQL, boardId))
+			.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	@Test
+	@DisplayName("키가 이미 있으면 아무것도 하지 않음")
+	void skipExistingUniqueKeys() {
+		jdbcTemplate.update(INSERT_LIKE_SQL, boardId, memberId);
+
+		assertThat(boardUniqueKeyService.createUniqueKeys()).isZero();
+		assertThat(count("SELECT COUNT(*) FROM board_likes WHERE board_id = ?")).isEqualTo(1);
+	}
+
+	private int count(String sql) {
+		return jdbcTemplate.queryForObject(sql, Integer.class, boardId);
+	}
+}
@@ -0,0 +1,101 @@
+package net.dutymate.api.domain.community.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import net.dutymate.api.IntegrationTestSupport;
+import net.dutymate.api.domain.community.Board;
+import net.dutymate.api.domain.community.Category;
+import net.dutymate.api.domain.community.repository.BoardRepository;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.member.service.MemberService;
+
+/**
+ * 게시글 조회수 반영 검증
+ * 스케줄러(flushBoardViewCnt)도 같은 카운터를 반영할 수 있으므로 반환값 대신 DB 값 + 남은 증가분으로 확인한다.
+ */
+class BoardViewCountServiceTest extends IntegrationTestSupport {
+
+	private static final String SELECT_VIEW_CNT_SQL = "SELECT view_cnt FROM board WHERE board_id = ?";
+
+	@Autowired
+	private BoardViewCountService boardViewCountService;
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long boardId;
+
+	@BeforeEach
+	void setUp() {
+		Long memberId = memberService.demoLogin().getMemberId();
+		boardId = boardRepository.save(Board.builder()
+			.member(memberRepository.findById(memberId).orElseThrow())
+			.title("조회수")
+			.content("조회수")
+			.category(Category.DAILY)
+			.viewCnt(0)
+			.likesCntLow(0)
+			.likesCntMid(0)
+			.likesCntHigh(0)
+			.commentCnt(0)
+			.build()).getBoardId();
+	}
+
+	@Test
+	@DisplayName("반영한 증가분은 지워지고, 다시 반영해도 더해지지 않음")
+	void flushAppliesDeltaOnce() {
+		boardViewCountService.increase(boardId, 1L);
+		boardViewCountService.increase(boardId, 2L);
+		boardViewCountService.increase(boardId, 1L); // 같은 회원의 재조회는 세지 않음
+
+		boardViewCountService.flush();
+		boardViewCountService.flush();
+
+		assertThat(viewCnt()).isEqualTo(2);
+		assertThat(boardViewCountService.getPendingCnt(boardId)).isZero();
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패하면 꺼낸 증가분을 되돌리고 다음 반영 때 더함")
+	void flushRestoresDeltaOnFailure() {
+		JdbcTemplate failingJdbcTemplate = mock(JdbcTemplate.class);
+		when(failingJdbcTemplate.batchUpdate(anyString(), anyList()))
+			.thenThrow(new DataAccessResourceFailureException("DB 장애"));
+		BoardViewCountService failingService =
+			new BoardViewCountService(redisTemplate, failingJdbcTemplate, transactionTemplate);
+
+		boardViewCountService.increase(boardId, 1L);
+		boardViewCountService.increase(boardId, 2L);
+
+		assertThatThrownBy(failingService::flush).isInstanceOf(DataAccessResourceFailureException.class);
+		assertThat(viewCnt() + boardViewCountService.getPendingCnt(boardId)).isEqualTo(2);
+
+		boardViewCountService.flush();
+		assertThat(viewCnt()).isEqualTo(2);
+		assertThat(boardViewCountService.getPendingCnt(boardId)).isZero();
+	}
+
+	private int viewCnt() {
+		return jdbcTemplate.queryForObject(SELECT_VIEW_CNT_SQL, Integer.class, boardId);
+	}
+}
@@ -0,0 +1,130 @@
+package net.dutymate.api.domain.wardschedules.service;
+
+import static net.dutymate.api.global.metrics.QueryCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import net.dutymate.api.IntegrationTestSupport;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.member.repository.MemberRepository;
+import net.dutymate.api.domain.member.service.MemberService;
+import net.dutymate.api.domain.ward.dto.AddNurseCntRequestDto;
+import net.dutymate.api.domain.ward.service.WardService;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleViewCache;
+import net.dutymate.api.global.metrics.QueryCounter;
+
+/**
+ * 근무표 조회 쿼리 수 검증 (데모 병동 사용)
+ * 요청 처리와 같이 회원을 먼저 조회한 영속성 컨텍스트 안에서 서비스 메서드만 측정한다. (OSIV)
+ */
+class WardScheduleServiceQueryCountTest extends IntegrationTestSupport {
+
+	// 요청당 명령 수 예산 (application.yaml metrics.query-budget)
+	private static final int JDBC_BUDGET = 20;
+	private static final int MONGO_BUDGET = 10;
+	private static final int REDIS_BUDGET = 20;
+
+	private static final int ADDED_NURSE_CNT = 10;
+
+	// 캐시 적중 시 Redis 명령 (병동 버전 GET, 캐시 GET)
+	private static final int CACHE_HIT_REDIS_CNT = 2;
+
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private WardService wardService;
+	@Autowired
+	private WardScheduleService wardScheduleService;
+	@Autowired
+	private WardScheduleViewCache wardScheduleViewCache;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final YearMonth yearMonth = YearMonth.nowYearMonth();
+
+	private Long memberId;
+	private Long wardId;
+
+	@BeforeEach
+	void setUp() {
+		memberId = memberService.demoLogin().getMemberId();
+		wardId = transactionTemplate.execute(status -> findMember().getWardMember().getWard().getWardId());
+	}
+
+	@Test
+	@DisplayName("병동 근무표: 캐시 적중 시 DB 조회 없음")
+	void getWardScheduleFromCache() {
+		inRequest(member -> wardScheduleService.getWardSchedule(member, yearMonth, null));
+
+		inRequest(member -> assertQueryCount(0, 0, CACHE_HIT_REDIS_CNT,
+			() -> wardScheduleService.getWardSchedule(member, yearMonth, null)));
+	}
+
+	@Test
+	@DisplayName("병동 근무표: 쿼리 수가 간호사 수와 무관")
+	void getWardScheduleQueryCount() {
+		assertSameQueryCountAfterAddingNurses(member -> wardScheduleService.getWardSchedule(member, yearMonth, null));
+	}
+
+	@Test
+	@DisplayName("오늘의 근무: 쿼리 수가 간호사 수와 무관")
+	void getTodayDutyQueryCount() {
+		assertSameQueryCountAfterAddingNurses(
+			member -> wardScheduleService.getTodayDuty(member, yearMonth.year(), yearMonth.month(), 1));
+	}
+
+	@Test
+	@DisplayName("병동 전체 근무: 캐시 적중 시 DB 조회 없음")
+	void getAllWardDutyFromCache() {
+		inRequest(member -> wardScheduleService.getAllWardDuty(member, yearMonth.year(), yearMonth.month()));
+
+		inRequest(member -> assertQueryCount(0, 0, CACHE_HIT_REDIS_CNT,
+			() -> wardScheduleService.getAllWardDuty(member, yearMonth.year(), yearMonth.month())));
+	}
+
+	@Test
+	@DisplayName("병동 전체 근무: 쿼리 수가 간호사 수와 무관")
+	void getAllWardDutyQueryCount() {
+		assertSameQueryCountAfterAddingNurses(
+			member -> wardScheduleService.getAllWardDuty(member, yearMonth.year(), yearMonth.month()));
+	}
+
+	// 간호사별로 조회하면 (N+1) 간호사를 추가한 뒤 쿼리 수가 늘어남
+	private void assertSameQueryCountAfterAddingNurses(Consumer<Member> call) {
+		QueryCounter.QueryCount before = measureWithoutCache(call);
+
+		inRequest(member -> wardService.addVirtualMember(
+			AddNurseCntRequestDto.builder().virtualNurseCnt(ADDED_NURSE_CNT).build(), member));
+
+		QueryCounter.QueryCount after = measureWithoutCache(call);
+		assertThat(after.jdbc()).as("JDBC 쿼리 수 %s -> %s", before, after).isEqualTo(before.jdbc());
+		assertThat(after.mongo()).as("Mongo 명령 수 %s -> %s", before, after).isEqualTo(before.mongo());
+	}
+
+	// 조회 캐시를 무효화한 뒤 예산 안에서 실행되는지 확인
+	private QueryCounter.QueryCount measureWithoutCache(Consumer<Member> call) {
+		wardScheduleViewCache.evictWard(wardId);
+		return transactionTemplate.execute(status -> {
+			Member member = findMember();
+			return assertQueryCountAtMost(JDBC_BUDGET, MONGO_BUDGET, REDIS_BUDGET, () -> call.accept(member));
+		});
+	}
+
+	private void inRequest(Consumer<Member> call) {
+		transactionTemplate.executeWithoutResult(status -> call.accept(findMember()));
+	}
+
+	private Member findMember() {
+		return memberRepository.findById(memberId).orElseThrow();
+	}
+}
@@ -0,0 +1,219 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+
+class DutyAutoCheckTest {
+
+	private static final String PATTERN_MESSAGE_SUFFIX = "형태의 근무는 허용되지 않습니다.";
+	private static final String MAX_SHIFT_VIOLATION_MESSAGE = "최대 근무일 규칙을 위반했습니다.";
+	private static final String[] FORBIDDEN_PATTERNS = {"ND", "NE", "ED", "NOD", "NM", "EM", "NOM"};
+	private static final String SHIFT_CHARS = "DENOMX";
+	private static final int PREV_SHIFTS_DAY = 4;
+
+	@Test
+	@DisplayName("금지 패턴 검사 결과가 패턴별 검색(이전 구현)과 같음")
+	void patternIssuesMatchPerPatternSearch() {
+		Random random = new Random(20250101L);
+		Rule rule = rule(5);
+
+		for (int roster = 0; roster < 2_000; roster++) {
+			WardScheduleResponseDto.NurseShifts nurseShifts = nurseShifts((long)roster,
+				randomShifts(random, PREV_SHIFTS_DAY), randomShifts(random, 28 + random.nextInt(4)));
+
+			List<WardScheduleResponseDto.Issue> patternIssues = DutyAutoCheck.check(List.of(nurseShifts), rule)
+				.stream()
+				.filter(issue -> issue.getMessage().endsWith(PATTERN_MESSAGE_SUFFIX))
+				.toList();
+
+			assertThat(patternIssues)
+				.as("prevShifts=%s shifts=%s", nurseShifts.getPrevShifts(), nurseShifts.getShifts())
+				.isEqualTo(perPatternIssues(nurseShifts));
+		}
+	}
+
+	@Test
+	@DisplayName("수정한 간호사만 다시 검사하고 나머지는 이전 결과를 그대로 사용")
+	void recheckOnlyChangedNurse() {
+		Rule rule = rule(5);
+		String offShifts = "O".repeat(30);
+		WardScheduleResponseDto previous = previous(List.of(nurseShifts(1L, "OOOO", offShifts),
+			nurseShifts(2L, "OOOO", offShifts)), List.of(markerIssue(1L), markerIssue(2L)));
+
+		List<WardScheduleResponseDto.NurseShifts> edited = List.of(nurseShifts(1L, "OOOO", offShifts),
+			nurseShifts(2L, "OOOO", "OOED" + offShifts.substring(4)));
+		List<WardScheduleResponseDto.Issue> issues = DutyAutoCheck.recheck(edited, rule, previous, Set.of(2L));
+
+		// 1번은 다시 검사하지 않았으므로 이전 결과(표시용 이슈)가 남고, 2번은 새로 검사한 결과만 남음
+		assertThat(issues).hasSize(2);
+		assertThat(issues.getFirst()).isEqualTo(markerIssue(1L));
+		assertThat(issues.getLast()).satisfies(issue -> {
+			assertThat(issue.getMemberId()).isEqualTo(2L);
+			assertThat(issue.getStartDate()).isEqualTo(3);
+			assertThat(issue.getEndDate()).isEqualTo(4);
+			assertThat(issue.getEndDateShift()).isEqualTo(Shift.D);
+		});
+	}
+
+	@Test
+	@DisplayName("수정하지 않은 간호사도 이전 결과와 근무가 다르면 다시 검사")
+	void recheckNurseChangedByOthers() {
+		String offShifts = "O".repeat(30);
+		WardScheduleResponseDto previous = previous(List.of(nurseShifts(1L, "OOOO", offShifts),
+			nurseShifts(2L, "OOOO", offShifts)), List.of(markerIssue(1L)));
+
+		// 다른 사용자가 동시에 1번 간호사의 근무를 바꾼 상태
+		List<WardScheduleResponseDto.NurseShifts> edited = List.of(
+			nurseShifts(1L, "OOOO", "D" + offShifts.substring(1)), nurseShifts(2L, "OOOO", offShifts));
+
+		assertThat(DutyAutoCheck.recheck(edited, rule(5), previous, Set.of(2L))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이전 결과를 재사용한 검사 결과가 전체 검사 결과와 같음")
+	void recheckMatchesFullCheck() {
+		Random random = new Random(20250102L);
+		Rule rule = rule(5);
+
+		for (int roster = 0; roster < 500; roster++) {
+			List<WardScheduleResponseDto.NurseShifts> before = new ArrayList<>();
+			for (long memberId = 1; memberId <= 10; memberId++) {
+				before.add(nurseShifts(memberId, randomShifts(random, PREV_SHIFTS_DAY), randomShifts(random, 30)));
+			}
+			WardScheduleResponseDto previous = previous(before, DutyAutoCheck.check(before, rule));
+
+			long changedMemberId = 1 + random.nextInt(before.size());
+			List<WardScheduleResponseDto.NurseShifts> after = before.stream()
+				.map(ns -> ns.getMemberId() == changedMemberId
+					? nurseShifts(ns.getMemberId(), ns.getPrevShifts(), randomShifts(random, 30))
+					: ns)
+				.toList();
+
+			assertThat(DutyAutoCheck.recheck(after, rule, previous, Set.of(changedMemberId)))
+				.isEqualTo(DutyAutoCheck.check(after, rule));
+		}
+	}
+
+	@Test
+	@DisplayName("규칙이 바뀌면 같은 근무도 다시 검사")
+	void recheckWhenRuleChanges() {
+		WardScheduleResponseDto.NurseShifts nurseShifts = nurseShifts(1L, "OOOO", "DDDD" + "O".repeat(26));
+
+		assertThat(DutyAutoCheck.check(List.of(nurseShifts), rule(5)))
+			.noneMatch(issue -> issue.getMessage().equals(MAX_SHIFT_VIOLATION_MESSAGE));
+		assertThat(DutyAutoCheck.check(List.of(nurseShifts), rule(3)))
+			.anyMatch(issue -> issue.getMessage().equals(MAX_SHIFT_VIOLATION_MESSAGE));
+	}
+
+	// 패턴마다 문자열 전체를 검색하던 이전 구현 (월 경계는 패턴별 첫 번째만)
+	private static List<WardScheduleResponseDto.Issue> perPatternIssues(WardScheduleResponseDto.NurseShifts ns) {
+		List<WardScheduleResponseDto.Issue> issues = new ArrayList<>();
+		String shifts = ns.getPrevShifts() + ns.getShifts();
+		int prevShiftsDay = ns.getPrevShifts().length();
+
+		for (String pattern : FORBIDDEN_PATTERNS) {
+			if (prevShiftsDay >= pattern.length() - 1) {
+				String boundaryShifts = shifts.substring(prevShiftsDay - (pattern.length() - 1),
+					Math.min(prevShiftsDay + pattern.length(), shifts.length()));
+				int boundaryIndex = boundaryShifts.indexOf(pattern);
+
+				if (boundaryIndex != -1 && boundaryIndex < pattern.length()) {
+					int patternStartInPrevMonth = (pattern.length() - 1) - boundaryIndex;
+					int daysInCurrentMonth = pattern.length() - patternStartInPrevMonth;
+
+					int endDateOffset = 0;
+					for (int i = 0; i < daysInCurrentMonth; i++) {
+						if (pattern.charAt(patternStartInPrevMonth + i) != 'O') {
+							endDateOffset = i + 1;
+						}
+					}
+					issues.add(patternIssue(ns, 1, endDateOffset, pattern));
+				}
+			}
+
+			int index = shifts.indexOf(pattern, prevShiftsDay);
+			while (index != -1) {
+				int endDate = index + pattern.length() - prevShiftsDay;
+				if (endDate <= shifts.length() - prevShiftsDay) {
+					issues.add(patternIssue(ns, index + 1 - prevShiftsDay, endDate, pattern));
+				}
+				index = shifts.indexOf(pattern, index + 1);
+			}
+		}
+		return issues;
+	}
+
+	private static WardScheduleResponseDto.Issue patternIssue(WardScheduleResponseDto.NurseShifts ns, int startDate,
+		int endDate, String pattern) {
+		return WardScheduleResponseDto.Issue.builder()
+			.memberId(ns.getMemberId())
+			.name(ns.getName())
+			.startDate(startDate)
+			.endDate(endDate)
+			.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
+			.message(pattern + PATTERN_MESSAGE_SUFFIX)
+			.build();
+	}
+
+	// 재사용 여부를 구분하기 위한 이전 결과 (실제 검사로는 나오지 않는 이슈)
+	private static WardScheduleResponseDto.Issue markerIssue(Long memberId) {
+		return WardScheduleResponseDto.Issue.builder()
+			.memberId(memberId)
+			.name("간호사" + memberId)
+			.startDate(1)
+			.endDate(1)
+			.endDateShift(Shift.O)
+			.message("이전 결과")
+			.build();
+	}
+
+	private static WardScheduleResponseDto previous(List<WardScheduleResponseDto.NurseShifts> duty,
+		List<WardScheduleResponseDto.Issue> issues) {
+		return WardScheduleResponseDto.builder()
+			.duty(duty)
+			.issues(issues)
+			.build();
+	}
+
+	private static String randomShifts(Random random, int length) {
+		StringBuilder shifts = new StringBuilder(length);
+		for (int day = 0; day < length; day++) {
+			shifts.append(SHIFT_CHARS.charAt(random.nextInt(SHIFT_CHARS.length())));
+		}
+		return shifts.toString();
+	}
+
+	private static WardScheduleResponseDto.NurseShifts nurseShifts(Long memberId, String prevShifts, String shifts) {
+		return WardScheduleResponseDto.NurseShifts.builder()
+			.memberId(memberId)
+			.name("간호사" + memberId)
+			.prevShifts(prevShifts)
+			.shifts(shifts)
+			.shiftFlags(ShiftType.ALL.getFlag())
+			.build();
+	}
+
+	private static Rule rule(int maxShift) {
+		return Rule.builder()
+			.wdayDCnt(2).wdayECnt(2).wdayNCnt(2)
+			.wendDCnt(2).wendECnt(2).wendNCnt(2)
+			.maxN(3).prioMaxN(3)
+			.minN(2).prioMinN(3)
+			.offCntAfterN(2).prioOffCntAfterN(2)
+			.maxShift(maxShift).prioMaxShift(3)
+			.offCntAfterMaxShift(2).prioOffCntAfterMaxShift(2)
+			.build();
+	}
+}
@@ -0,0 +1,216 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.EditDutyRequestDto;
+import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.WardSchedulePushService;
+
+class WardScheduleEditorTest {
+
+	private static final Long WARD_ID = 1L;
+	private static final YearMonth YEAR_MONTH = new YearMonth(2025, 1);
+	private static final String EMPTY_SHIFTS = "X".repeat(31);
+
+	private WardScheduleRepository wardScheduleRepository;
+	private WardSchedulePushService wardSchedulePushService;
+	private WardScheduleEditor wardScheduleEditor;
+
+	@BeforeEach
+	void setUp() {
+		wardScheduleRepository = mock(WardScheduleRepository.class);
+		wardSchedulePushService = mock(WardSchedulePushService.class);
+		wardScheduleEditor = new WardScheduleEditor(wardScheduleRepository, wardSchedulePushService);
+	}
+
+	@Test
+	@DisplayName("버전 충돌 시 최신 근무표를 다시 읽어 같은 셀 수정을 재적용")
+	void editRetriesOnLatestSchedule() {
+		// 첫 저장 사이에 다른 사용자가 2번 간호사의 1일 근무를 N으로 바꿈
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, "N" + EMPTY_SHIFTS.substring(1))));
+		when(wardScheduleRepository.save(any(WardSchedule.class)))
+			.thenThrow(new OptimisticLockingFailureException("version conflict"))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		WardSchedule saved = wardScheduleEditor.edit(WARD_ID, YEAR_MONTH, List.of(cellEdit(1L, 1, Shift.D)));
+
+		List<WardSchedule.NurseShift> duty = saved.getDuties().get(saved.getNowIdx()).getDuty();
+		assertThat(saved.getNowIdx()).isEqualTo(1);
+		assertThat(duty.get(0).getShifts()).startsWith("D");
+		assertThat(duty.get(1).getShifts()).startsWith("N");
+		verify(wardScheduleRepository, times(2)).save(any(WardSchedule.class));
+		verify(wardSchedulePushService).publish(any());
+	}
+
+	@Test
+	@DisplayName("재시도 시 히스토리의 수정 전 근무를 다시 읽은 근무표 기준으로 기록")
+	void editRebuildsHistoryOnRetry() {
+		// 첫 저장 사이에 다른 사용자가 같은 셀(1번 간호사 1일)을 N으로 바꿈
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)))
+			.thenReturn(Optional.of(wardSchedule("N" + EMPTY_SHIFTS.substring(1), EMPTY_SHIFTS)));
+		when(wardScheduleRepository.save(any(WardSchedule.class)))
+			.thenThrow(new OptimisticLockingFailureException("version conflict"))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		WardSchedule saved = wardScheduleEditor.edit(WARD_ID, YEAR_MONTH, List.of(cellEdit(1L, 1, Shift.D)));
+
+		WardSchedule.History history = saved.getDuties().get(saved.getNowIdx()).getHistory();
+		assertThat(history.getBefore()).isEqualTo("N");
+		assertThat(history.getAfter()).isEqualTo("D");
+	}
+
+	@Test
+	@DisplayName("여러 셀 수정의 칸별 수정 전 근무도 근무표 기준으로 기록")
+	void editBulkRebuildsCellHistory() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule("E" + EMPTY_SHIFTS.substring(1), EMPTY_SHIFTS)));
+		when(wardScheduleRepository.save(any(WardSchedule.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// 요청의 수정 전 근무는 화면 기준 (X)
+		WardSchedule.History requestHistory = WardSchedule.History.builder()
+			.memberId(1L)
+			.modifiedDay(1)
+			.before("X")
+			.after("D")
+			.cells(List.of(WardSchedule.Cell.builder().memberId(1L).day(1).before("X").after("D").build(),
+				WardSchedule.Cell.builder().memberId(2L).day(2).before("X").after("N").build()))
+			.build();
+
+		WardSchedule saved = wardScheduleEditor.editBulk(WARD_ID, YEAR_MONTH,
+			List.of(cellEdit(1L, 1, Shift.D), cellEdit(2L, 2, Shift.N)), requestHistory);
+
+		WardSchedule.History history = saved.getDuties().getLast().getHistory();
+		assertThat(history.getBefore()).isEqualTo("E");
+		assertThat(history.getCells()).extracting(WardSchedule.Cell::getBefore).containsExactly("E", "X");
+	}
+
+	@Test
+	@DisplayName("문서 전체 수정도 버전 충돌 시 최신 근무표에 다시 적용")
+	void updateRetriesOnLatestSchedule() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, "N" + EMPTY_SHIFTS.substring(1))));
+		when(wardScheduleRepository.save(any(WardSchedule.class)))
+			.thenThrow(new OptimisticLockingFailureException("version conflict"))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		WardSchedule saved = wardScheduleEditor.update(WARD_ID, YEAR_MONTH, wardSchedule -> {
+			wardSchedule.setNurseOrder(List.of(2L, 1L));
+			return wardSchedule;
+		}).orElseThrow();
+
+		assertThat(saved.getNurseOrder()).containsExactly(2L, 1L);
+		assertThat(saved.getDuties().get(saved.getNowIdx()).getDuty().get(1).getShifts()).startsWith("N");
+		verify(wardScheduleRepository, times(2)).save(any(WardSchedule.class));
+	}
+
+	@Test
+	@DisplayName("근무표가 없으면 문서 전체 수정을 저장하지 않음")
+	void updateSkipsMissingSchedule() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1)).thenReturn(Optional.empty());
+
+		assertThat(wardScheduleEditor.update(WARD_ID, YEAR_MONTH, wardSchedule -> wardSchedule)).isEmpty();
+		verify(wardScheduleRepository, never()).save(any(WardSchedule.class));
+	}
+
+	@Test
+	@DisplayName("충돌이 계속되면 최대 횟수만큼 시도한 뒤 CONFLICT")
+	void editFailsAfterMaxRetry() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenAnswer(invocation -> Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)));
+		when(wardScheduleRepository.save(any(WardSchedule.class)))
+			.thenThrow(new OptimisticLockingFailureException("version conflict"));
+
+		assertThatThrownBy(() -> wardScheduleEditor.edit(WARD_ID, YEAR_MONTH, List.of(cellEdit(1L, 1, Shift.D))))
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+		verify(wardScheduleRepository, times(3)).save(any(WardSchedule.class));
+		verify(wardSchedulePushService, never()).publish(any());
+	}
+
+	@Test
+	@DisplayName("여러 셀 수정은 스냅샷 하나로 저장")
+	void editBulkAppendsOneSnapshot() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)));
+		when(wardScheduleRepository.save(any(WardSchedule.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		WardSchedule saved = wardScheduleEditor.editBulk(WARD_ID, YEAR_MONTH,
+			List.of(cellEdit(1L, 1, Shift.D), cellEdit(1L, 2, Shift.E), cellEdit(2L, 31, Shift.N)),
+			WardSchedule.History.builder().memberId(1L).build());
+
+		List<WardSchedule.NurseShift> duty = saved.getDuties().getLast().getDuty();
+		assertThat(saved.getDuties()).hasSize(2);
+		assertThat(duty.get(0).getShifts()).startsWith("DE");
+		assertThat(duty.get(1).getShifts()).endsWith("N");
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 날짜는 저장하지 않음")
+	void editRejectsInvalidDay() {
+		when(wardScheduleRepository.findByWardIdAndYearAndMonth(WARD_ID, 2025, 1))
+			.thenReturn(Optional.of(wardSchedule(EMPTY_SHIFTS, EMPTY_SHIFTS)));
+
+		assertThatThrownBy(() -> wardScheduleEditor.edit(WARD_ID, YEAR_MONTH, List.of(cellEdit(1L, 32, Shift.D))))
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		verify(wardScheduleRepository, never()).save(any(WardSchedule.class));
+	}
+
+	@Test
+	@DisplayName("알 수 없는 근무 값은 수정 요청 변환 시 거부")
+	void cellEditRejectsUnknownShift() {
+		EditDutyRequestDto.History history = new EditDutyRequestDto.History();
+		history.setMemberId(1L);
+		history.setModifiedDay(1);
+		history.setBefore("X");
+		history.setAfter("Z");
+
+		assertThatThrownBy(() -> WardScheduleEditor.CellEdit.of(history))
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+	}
+
+	private static WardScheduleEditor.CellEdit cellEdit(Long memberId, int day, Shift after) {
+		return new WardScheduleEditor.CellEdit(memberId, day, after,
+			WardSchedule.History.builder().memberId(memberId).modifiedDay(day).after(after.getValue()).build());
+	}
+
+	// 1번, 2번 간호사의 근무표 (스냅샷 1개)
+	private static WardSchedule wardSchedule(String firstShifts, String secondShifts) {
+		List<WardSchedule.NurseShift> duty = new ArrayList<>();
+		duty.add(WardSchedule.NurseShift.builder().memberId(1L).shifts(firstShifts).build());
+		duty.add(WardSchedule.NurseShift.builder().memberId(2L).shifts(secondShifts).build());
+
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		duties.add(WardSchedule.Duty.builder().idx(0).duty(duty).build());
+
+		return WardSchedule.builder()
+			.wardId(WARD_ID)
+			.year(YEAR_MONTH.year())
+			.month(YEAR_MONTH.month())
+			.nowIdx(0)
+			.duties(duties)
+			.version(0L)
+			.build();
+	}
+}
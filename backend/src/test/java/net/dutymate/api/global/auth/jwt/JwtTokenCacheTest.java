@@ -0,0 +1,80 @@
+package net.dutymate.api.global.auth.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class JwtTokenCacheTest {
+
+	private static final long MEMBER_ID = 1L;
+
+	private JwtTokenCache jwtTokenCache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jwtTokenCache = new JwtTokenCache(mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class));
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 토큰은 캐시에서 꺼내지 않음")
+	void expiredTokenIsNotReturned() {
+		long now = System.currentTimeMillis();
+		jwtTokenCache.put("valid", MEMBER_ID, now + 60_000L);
+		jwtTokenCache.put("expired", MEMBER_ID, now - 1L);
+
+		assertThat(jwtTokenCache.getMemberId("valid")).isEqualTo(MEMBER_ID);
+		assertThat(jwtTokenCache.getMemberId("expired")).isNull();
+	}
+
+	@Test
+	@DisplayName("블랙리스트에 오른 토큰은 캐시에서 제거되고 다시 저장되지 않음")
+	void blacklistedTokenIsNotCached() {
+		long expiresAt = System.currentTimeMillis() + 60_000L;
+		jwtTokenCache.put("token", MEMBER_ID, expiresAt);
+
+		jwtTokenCache.addToBlacklist("token", expiresAt);
+		jwtTokenCache.put("token", MEMBER_ID, expiresAt);
+
+		assertThat(jwtTokenCache.getMemberId("token")).isNull();
+	}
+
+	@Test
+	@DisplayName("검증 중 로그아웃된 토큰은 저장과 블랙리스트 추가가 동시에 일어나도 캐시에 남지 않음")
+	void concurrentPutAndBlacklist() throws Exception {
+		long expiresAt = System.currentTimeMillis() + 60_000L;
+
+		for (int round = 0; round < 1_000; round++) {
+			String token = "token-" + round;
+			CyclicBarrier barrier = new CyclicBarrier(2);
+
+			CompletableFuture<Void> put = CompletableFuture.runAsync(() -> {
+				await(barrier);
+				jwtTokenCache.put(token, MEMBER_ID, expiresAt);
+			});
+			CompletableFuture<Void> blacklist = CompletableFuture.runAsync(() -> {
+				await(barrier);
+				jwtTokenCache.addToBlacklist(token, expiresAt);
+			});
+			CompletableFuture.allOf(put, blacklist).get();
+
+			assertThat(jwtTokenCache.getMemberId(token)).as("round %d", round).isNull();
+		}
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
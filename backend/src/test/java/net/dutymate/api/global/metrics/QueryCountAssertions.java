@@ -0,0 +1,33 @@
+package net.dutymate.api.global.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 서비스 메서드 하나에서 실행된 JDBC, Mongo, Redis 명령 수 검증 (QueryCounter.measure 사용)
+ * 예) assertQueryCount(1, 2, 0, () -> wardScheduleService.getTodayDuty(member, 2025, 1, 1))
+ */
+public final class QueryCountAssertions {
+
+	private QueryCountAssertions() {
+	}
+
+	// 명령 수가 정확히 일치하는지 확인
+	public static QueryCounter.QueryCount assertQueryCount(int expectedJdbc, int expectedMongo, int expectedRedis,
+		Runnable task) {
+		QueryCounter.QueryCount queryCount = QueryCounter.measure(task);
+		assertThat(queryCount)
+			.as("JDBC, Mongo, Redis 명령 수")
+			.isEqualTo(new QueryCounter.QueryCount(expectedJdbc, expectedMongo, expectedRedis));
+		return queryCount;
+	}
+
+	// 명령 수가 예산 안인지 확인
+	public static QueryCounter.QueryCount assertQueryCountAtMost(int maxJdbc, int maxMongo, int maxRedis,
+		Runnable task) {
+		QueryCounter.QueryCount queryCount = QueryCounter.measure(task);
+		assertThat(queryCount.jdbc()).as("JDBC 쿼리 수 %s", queryCount).isLessThanOrEqualTo(maxJdbc);
+		assertThat(queryCount.mongo()).as("Mongo 명령 수 %s", queryCount).isLessThanOrEqualTo(maxMongo);
+		assertThat(queryCount.redis()).as("Redis 명령 수 %s", queryCount).isLessThanOrEqualTo(maxRedis);
+		return queryCount;
+	}
+}
@@ -0,0 +1,71 @@
+package net.dutymate.api.global.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+class RequestMetricsInterceptorTest {
+
+	private static final String METRIC_NAME = "dutymate.controller.requests";
+
+	private SimpleMeterRegistry meterRegistry;
+	private RequestMetricsInterceptor interceptor;
+	private HandlerMethod handler;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		meterRegistry = new SimpleMeterRegistry();
+		interceptor = new RequestMetricsInterceptor(meterRegistry);
+		handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("get"));
+	}
+
+	@Test
+	@DisplayName("@ExceptionHandler 로 처리된 예외도 exception 태그에 기록")
+	void tagHandledException() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		interceptor.preHandle(request, response, handler);
+		request.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE,
+			new ResponseStatusException(HttpStatus.BAD_REQUEST));
+		response.setStatus(400);
+		interceptor.afterCompletion(request, response, handler, null);
+
+		assertThat(meterRegistry.get(METRIC_NAME).tag("exception", "ResponseStatusException").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("비동기로 시작된 요청은 재디스패치가 끝나도 기록하지 않음")
+	void skipAsyncStartedRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/duty/subscribe");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+		request.setDispatcherType(DispatcherType.ASYNC);
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterCompletion(request, response, handler, null);
+
+		assertThat(meterRegistry.find(METRIC_NAME).timer()).isNull();
+	}
+
+	static class SampleController {
+
+		public String get() {
+			return "ok";
+		}
+	}
+}
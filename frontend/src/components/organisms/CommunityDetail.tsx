@@ -33,7 +33,8 @@ interface CommunityDetailProps {
     viewCnt: number;
     isMyWrite: boolean;
     isLike: boolean;
-    comments: Comment[];
+    comments: Comment[]; // 첫 페이지
+    nextCommentCursor: number | null;
   };
 }
 
@@ -47,6 +48,8 @@ const CommunityDetail = ({ post }: CommunityDetailProps) => {
   const [likeCount, setLikeCount] = useState(post.likeCnt);
   const [commentCount, setCommentCount] = useState(post.commentCnt);
   const [commentList, setCommentList] = useState<Comment[]>(post.comments);
+  const [nextCommentCursor, setNextCommentCursor] = useState<number | null>(post.nextCommentCursor);
+  const [isLoadingComments, setIsLoadingComments] = useState(false);
 
   const navigate = useNavigate();
   const [isEditing, setIsEditing] = useState<number | null>(null);
@@ -153,6 +156,33 @@ const CommunityDetail = ({ post }: CommunityDetailProps) => {
     }
   };
 
+  const handleLoadMoreComments = async () => {
+    if (nextCommentCursor === null || isLoadingComments) {
+      return;
+    }
+
+    setIsLoadingComments(true);
+    try {
+      const response = await boardService.getComments(post.boardId, nextCommentCursor);
+
+      // 더보기 전에 작성한 댓글은 이미 목록 끝에 있으므로 중복을 빼고 작성 순서(ID)로 다시 정렬
+      setCommentList((prevComments) =>
+        [
+          ...prevComments,
+          ...response.comments.filter(
+            (comment) => !prevComments.some((prev) => prev.commentId === comment.commentId)
+          ),
+        ].sort((a, b) => a.commentId - b.commentId)
+      );
+      setNextCommentCursor(response.nextCursor);
+    } catch (error) {
+      console.error('댓글 조회 오류:', error);
+      toast.error('댓글을 불러오는 데 실패했습니다.');
+    } finally {
+      setIsLoadingComments(false);
+    }
+  };
+
   const handleDeleteComment = async (event: React.MouseEvent, commentId: number) => {
     event.stopPropagation();
 
@@ -460,6 +490,17 @@ const CommunityDetail = ({ post }: CommunityDetailProps) => {
         )}
       </div>
 
+      {/* 댓글 더보기 */}
+      {nextCommentCursor !== null && (
+        <button
+          onClick={handleLoadMoreComments}
+          disabled={isLoadingComments}
+          className="w-full mb-3 py-2 text-sm text-gray-500 hover:bg-gray-50 rounded-lg"
+        >
+          {isLoadingComments ? '불러오는 중...' : '댓글 더보기'}
+        </button>
+      )}
+
       {/* 댓글 작성 */}
       <div className="relative">
         <textarea
@@ -28,6 +28,20 @@ export interface BoardRequest {
   boardImgUrl: string;
 }
 
+export interface CommentResponse {
+  commentId: number;
+  nickname: string;
+  profileImg: string;
+  content: string;
+  createdAt: string;
+  isMyWrite: boolean;
+}
+
+export interface CommentPageResponse {
+  comments: CommentResponse[];
+  nextCursor: number | null;
+}
+
 export interface NewsResponse {
   title: string;
   description: string;
@@ -216,6 +230,35 @@ export const boardService = {
       });
   },
 
+  /**
+   * 댓글 더 불러오기 (상세 조회에 포함된 첫 페이지 이후)
+   * @param boardId
+   * @param cursor 이전 페이지의 nextCursor
+   * @returns
+   */
+  getComments: async (boardId: number, cursor: number): Promise<CommentPageResponse> => {
+    return axiosInstance
+      .get(`/board/${boardId}/comment`, { params: { cursor } })
+      .then((response) => {
+        return response.data;
+      })
+      .catch((error) => {
+        if (axios.isAxiosError(error)) {
+          throw error.response?.data;
+        }
+        if (error.response) {
+          switch (error.response.status) {
+            case 401:
+              window.location.href = '/login';
+              break;
+            default:
+              throw error;
+          }
+        }
+        throw error;
+      });
+  },
+
   /**
    * 댓글 작성하기기
    * @param contents